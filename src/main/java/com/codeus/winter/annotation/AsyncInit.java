@@ -0,0 +1,18 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation marks a method to be executed asynchronously after the dependency injection is complete,
+ * e.g. to load reference data or to warm up a connection pool without blocking the startup.
+ * Methods annotated with {@code @AsyncInit} are invoked after the {@link PostConstruct} methods of the bean
+ * on a virtual thread managed by the context. Beans that get the bean injected wait until the methods complete,
+ * other beans are created in the meantime. Refreshing the context waits for all of them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncInit {
+}
@@ -3,22 +3,37 @@ package com.codeus.winter.annotation;
 import com.codeus.winter.config.AbstractAutowireCapableBeanFactory;
 import com.codeus.winter.config.BeanPostProcessor;
 import com.codeus.winter.config.DependencyDescriptor;
+import com.codeus.winter.config.InstantiationStrategy;
+import com.codeus.winter.config.impl.ReflectiveInstantiationStrategy;
 import com.codeus.winter.exception.BeanNotFoundException;
 import jakarta.annotation.Nullable;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
  * BeanPostProcessor implementation that autowires annotated fields, setter methods, and constructor.
+ * <p>
+ * The injection points of a bean class are looked up once and cached per class,
+ * so creating many instances of the same class, e.g. prototypes, doesn't repeat the reflective lookup.
+ * The processor only {@link #appliesTo(Class) applies to} classes with {@code @Autowired} methods or fields.
  */
 @SuppressWarnings("java:S3011")
 public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
 
+    private static final ClassValue<InjectionMetadata> INJECTION_METADATA = new ClassValue<>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> beanType) {
+            return buildInjectionMetadata(beanType);
+        }
+    };
+
     private AbstractAutowireCapableBeanFactory beanFactory;
+    private InstantiationStrategy instantiationStrategy = new ReflectiveInstantiationStrategy();
 
     /**
      * Set BeanFactory as dependency.
@@ -29,8 +44,31 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
         this.beanFactory = beanFactory;
     }
 
+    /**
+     * Set the strategy used to assign autowired fields and call autowired methods.
+     * Defaults to {@link ReflectiveInstantiationStrategy}.
+     *
+     * @param instantiationStrategy instantiation strategy
+     */
+    public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+    }
+
+    /**
+     * Check if the bean class declares methods or fields annotated with @Autowired.
+     *
+     * @param beanClass bean class
+     * @return {@code true} if the beans of the class have injection points
+     */
+    @Override
+    public boolean appliesTo(Class<?> beanClass) {
+        InjectionMetadata injectionMetadata = INJECTION_METADATA.get(beanClass);
+        return !injectionMetadata.methods().isEmpty() || !injectionMetadata.fields().isEmpty();
+    }
+
     /**
      * Resolve dependency injection for constructors/methods/fields with @Autowired annotation.
+     * Beans created by a {@link com.codeus.winter.config.BeanInstanceSupplier} are already autowired and skipped.
      *
      * @param bean     bean object
      * @param beanName bean name
@@ -40,6 +78,9 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
     @Override
     public Object postProcessBeforeInitialization(Object bean, String beanName)
             throws BeanNotFoundException {
+        if (beanFactory.getBeanInstanceSupplier(bean.getClass().getName()) != null) {
+            return bean;
+        }
         try {
             injectMethod(bean);
             injectField(bean);
@@ -49,27 +90,65 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
         return bean;
     }
 
-    private void injectMethod(Object bean) throws InvocationTargetException, IllegalAccessException {
-        Class<?> beanType = bean.getClass();
+    private void injectMethod(Object bean) {
+        for (MethodInjectionPoint injectionPoint : INJECTION_METADATA.get(bean.getClass()).methods()) {
+            DependencyDescriptor[] descriptors = injectionPoint.descriptors();
+            Object[] dependencies = new Object[descriptors.length];
+            for (int i = 0; i < descriptors.length; i++) {
+                dependencies[i] = beanFactory.resolveDependency(descriptors[i]);
+            }
+            instantiationStrategy.invoke(injectionPoint.method(), bean, dependencies);
+        }
+    }
+
+    private void injectField(Object bean) {
+        for (FieldInjectionPoint injectionPoint : INJECTION_METADATA.get(bean.getClass()).fields()) {
+            Object dependency = beanFactory.resolveDependency(injectionPoint.descriptor());
+            instantiationStrategy.inject(injectionPoint.field(), bean, dependency);
+        }
+    }
+
+    /**
+     * Collects the {@code @Autowired} methods and fields declared by the given class.
+     * The methods and fields are made accessible once, here, and not on every injection.
+     *
+     * @param beanType a bean class.
+     * @return the injection metadata of the class.
+     */
+    private static InjectionMetadata buildInjectionMetadata(Class<?> beanType) {
+        List<MethodInjectionPoint> methods = new ArrayList<>();
         for (Method method : beanType.getDeclaredMethods()) {
             if (method.isAnnotationPresent(Autowired.class)) {
-                for (Parameter parameter : method.getParameters()) {
-                    Object dependency = beanFactory.resolveDependency(DependencyDescriptor.from(parameter));
-                    method.setAccessible(true);
-                    method.invoke(bean, dependency);
+                Parameter[] parameters = method.getParameters();
+                DependencyDescriptor[] descriptors = new DependencyDescriptor[parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    descriptors[i] = DependencyDescriptor.from(parameters[i]).reusable();
                 }
+                method.setAccessible(true);
+                methods.add(new MethodInjectionPoint(method, descriptors));
             }
         }
-    }
 
-    private void injectField(Object bean) throws IllegalAccessException {
-        Class<?> beanType = bean.getClass();
+        List<FieldInjectionPoint> fields = new ArrayList<>();
         for (Field field : beanType.getDeclaredFields()) {
             if (field.isAnnotationPresent(Autowired.class)) {
-                Object dependency = beanFactory.resolveDependency(DependencyDescriptor.from(field));
                 field.setAccessible(true);
-                field.set(bean, dependency);
+                fields.add(new FieldInjectionPoint(field, DependencyDescriptor.from(field).reusable()));
             }
         }
+
+        return new InjectionMetadata(List.copyOf(methods), List.copyOf(fields));
+    }
+
+    /**
+     * Immutable injection points of a bean class, built once per class and shared by all of its instances.
+     */
+    private record InjectionMetadata(List<MethodInjectionPoint> methods, List<FieldInjectionPoint> fields) {
+    }
+
+    private record MethodInjectionPoint(Method method, DependencyDescriptor[] descriptors) {
+    }
+
+    private record FieldInjectionPoint(Field field, DependencyDescriptor descriptor) {
     }
 }
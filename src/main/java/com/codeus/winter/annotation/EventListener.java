@@ -0,0 +1,46 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation marks a method of a component as a listener for application events,
+ * see {@link com.codeus.winter.context.ApplicationEventPublisher}.
+ * The method takes a single parameter, the type of the events it listens to. It receives every published event
+ * assignable to this type, subtypes included.
+ * Listener methods are discovered when the component is registered.
+ * <p>
+ * A method taking a {@code List<E>} is a batching listener: it receives the events of type {@code E} in batches
+ * of at most {@link #batchSize()} events, delivered once a batch is full or {@link #batchWindowMillis()} after
+ * its first event. Batches are always delivered asynchronously, one at a time, and the pending batch is
+ * delivered when the context is closed.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface EventListener {
+
+    /**
+     * Whether the listener is invoked on a virtual thread instead of the thread publishing the event.
+     * Exceptions thrown by an asynchronous listener don't reach the publisher.
+     *
+     * @return {@code true} to invoke the listener asynchronously
+     */
+    boolean async() default false;
+
+    /**
+     * The maximum number of events of a batch, applies only to batching listeners.
+     *
+     * @return the batch size, at least 1
+     */
+    int batchSize() default 100;
+
+    /**
+     * The maximum time in milliseconds between the first event of a batch and its delivery,
+     * applies only to batching listeners.
+     *
+     * @return the time window, at least 1
+     */
+    long batchWindowMillis() default 100;
+}
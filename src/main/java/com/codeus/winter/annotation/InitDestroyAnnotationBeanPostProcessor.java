@@ -1,20 +1,76 @@
 package com.codeus.winter.annotation;
 
+import com.codeus.winter.config.AbstractAutowireCapableBeanFactory;
 import com.codeus.winter.config.BeanPostProcessor;
 import com.codeus.winter.config.DestructionBeanPostProcessor;
 import com.codeus.winter.exception.BeanNotFoundException;
 import jakarta.annotation.Nullable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * BeanPostProcessor implementation that invokes annotated init and destroy methods. Processes
- * methods that annotated with @PostConstruct and @PreDestroy classes
+ * methods that annotated with @PostConstruct, @AsyncInit and @PreDestroy classes
+ * <p>
+ * The annotated methods of a bean class are looked up once and cached per class. The processor only
+ * {@link #appliesTo(Class) applies to} classes with a @PostConstruct or @AsyncInit method.
+ * <p>
+ * The @AsyncInit methods of a bean are started after initialization, once every post-processor has run
+ * before initialization, so they see the injected fields and setters of the bean. They run on the async
+ * init executor, their completion is registered with the bean factory, which lets the dependents of the bean
+ * wait for it.
  */
 @SuppressWarnings("java:S3011")
 public class InitDestroyAnnotationBeanPostProcessor implements BeanPostProcessor,
     DestructionBeanPostProcessor {
 
+    private static final ClassValue<LifecycleMetadata> LIFECYCLE_METADATA = new ClassValue<>() {
+        @Override
+        protected LifecycleMetadata computeValue(Class<?> beanType) {
+            return buildLifecycleMetadata(beanType);
+        }
+    };
+
+    private AbstractAutowireCapableBeanFactory beanFactory;
+    private Executor asyncInitExecutor = Runnable::run;
+
+    /**
+     * Set BeanFactory to register the asynchronous initializations of beans with.
+     * Without a bean factory, @AsyncInit methods are awaited right away.
+     *
+     * @param beanFactory bean factory
+     */
+    public void setBeanFactory(AbstractAutowireCapableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * Set the executor to invoke @AsyncInit methods on.
+     * Defaults to invoking them on the thread creating the bean.
+     *
+     * @param asyncInitExecutor executor, e.g. a virtual thread per task executor
+     */
+    public void setAsyncInitExecutor(Executor asyncInitExecutor) {
+        this.asyncInitExecutor = asyncInitExecutor;
+    }
+
+    /**
+     * Check if the bean class has a method annotated with @PostConstruct or @AsyncInit.
+     *
+     * @param beanClass bean class
+     * @return {@code true} if the beans of the class have an init method
+     */
+    @Override
+    public boolean appliesTo(Class<?> beanClass) {
+        LifecycleMetadata lifecycleMetadata = LIFECYCLE_METADATA.get(beanClass);
+        return !lifecycleMetadata.initMethods().isEmpty() || !lifecycleMetadata.asyncInitMethods().isEmpty();
+    }
+
     /**
      * Invoke method that annotated with @PostConstruct after bean properties set.
      *
@@ -26,23 +82,45 @@ public class InitDestroyAnnotationBeanPostProcessor implements BeanPostProcessor
     @Override
     public Object postProcessBeforeInitialization(Object bean, String beanName)
         throws BeanNotFoundException {
+        LifecycleMetadata lifecycleMetadata = LIFECYCLE_METADATA.get(bean.getClass());
         try {
-            processInitMethod(bean);
+            invokeMethods(lifecycleMetadata.initMethods(), bean);
         } catch (Exception e) {
             throw new BeanNotFoundException("Invocation of init method failed: " + beanName, e);
         }
         return bean;
     }
 
-    private void processInitMethod(Object bean)
-        throws InvocationTargetException, IllegalAccessException {
-        Class<?> beanType = bean.getClass();
-        for (Method method : beanType.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(PostConstruct.class)) {
-                method.setAccessible(true);
-                method.invoke(bean);
+    /**
+     * Start methods that annotated with @AsyncInit, after the dependencies of the bean are injected.
+     *
+     * @param bean bean object
+     * @param beanName bean name
+     * @return bean object
+     */
+    @Nullable
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName)
+        throws BeanNotFoundException {
+        LifecycleMetadata lifecycleMetadata = LIFECYCLE_METADATA.get(bean.getClass());
+        if (!lifecycleMetadata.asyncInitMethods().isEmpty()) {
+            CompletableFuture<Void> initialization = CompletableFuture.runAsync(
+                () -> invokeAsyncInitMethods(lifecycleMetadata.asyncInitMethods(), bean, beanName), asyncInitExecutor);
+            if (beanFactory != null) {
+                beanFactory.registerAsyncInitialization(beanName, initialization);
+            } else {
+                initialization.join();
             }
         }
+        return bean;
+    }
+
+    private static void invokeAsyncInitMethods(List<Method> asyncInitMethods, Object bean, String beanName) {
+        try {
+            invokeMethods(asyncInitMethods, bean);
+        } catch (Exception e) {
+            throw new BeanNotFoundException("Invocation of async init method failed: " + beanName, e);
+        }
     }
 
     /**
@@ -55,21 +133,90 @@ public class InitDestroyAnnotationBeanPostProcessor implements BeanPostProcessor
     public void postProcessBeforeDestruction(Object bean, String beanName)
         throws BeanNotFoundException {
         try {
-            processDestroyMethod(bean);
+            invokeMethods(LIFECYCLE_METADATA.get(bean.getClass()).destroyMethods(), bean);
         } catch (Exception e) {
             throw new BeanNotFoundException(
                 "Failed to invoke destroy method on bean with name: " + beanName, e);
         }
     }
 
-    private void processDestroyMethod(Object bean)
+    /**
+     * Check if the bean has a method annotated with @PreDestroy.
+     *
+     * @param bean bean object
+     * @return {@code true} if the bean has a destroy method
+     */
+    @Override
+    public boolean requiresDestruction(Object bean) {
+        return !LIFECYCLE_METADATA.get(bean.getClass()).destroyMethods().isEmpty();
+    }
+
+    private static void invokeMethods(List<Method> methods, Object bean)
         throws InvocationTargetException, IllegalAccessException {
-        Class<?> beanType = bean.getClass();
-        for (Method method : beanType.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(PreDestroy.class)) {
-                method.setAccessible(true);
-                method.invoke(bean);
+        for (Method method : methods) {
+            method.invoke(bean);
+        }
+    }
+
+    /**
+     * Collects the @PostConstruct, @AsyncInit and @PreDestroy methods of the given class and of its superclasses,
+     * superclass methods first. A method overridden by a subclass is collected once, where the subclass declares it.
+     * The methods are made accessible once, here, and not on every invocation.
+     *
+     * @param beanType a bean class.
+     * @return the lifecycle metadata of the class.
+     */
+    private static LifecycleMetadata buildLifecycleMetadata(Class<?> beanType) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.add(0, type);
+        }
+
+        List<Method> initMethods = new ArrayList<>();
+        List<Method> asyncInitMethods = new ArrayList<>();
+        List<Method> destroyMethods = new ArrayList<>();
+        for (Class<?> type : hierarchy) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (isOverridden(method, beanType)) {
+                    continue;
+                }
+                if (method.isAnnotationPresent(PostConstruct.class)) {
+                    method.setAccessible(true);
+                    initMethods.add(method);
+                }
+                if (method.isAnnotationPresent(AsyncInit.class)) {
+                    method.setAccessible(true);
+                    asyncInitMethods.add(method);
+                }
+                if (method.isAnnotationPresent(PreDestroy.class)) {
+                    method.setAccessible(true);
+                    destroyMethods.add(method);
+                }
+            }
+        }
+        return new LifecycleMetadata(List.copyOf(initMethods), List.copyOf(asyncInitMethods),
+            List.copyOf(destroyMethods));
+    }
+
+    private static boolean isOverridden(Method method, Class<?> beanType) {
+        if (Modifier.isPrivate(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> type = beanType; type != method.getDeclaringClass(); type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not redeclared by this subclass
             }
         }
+        return false;
+    }
+
+    /**
+     * Immutable lifecycle methods of a bean class, built once per class and shared by all of its instances.
+     */
+    private record LifecycleMetadata(List<Method> initMethods, List<Method> asyncInitMethods,
+                                     List<Method> destroyMethods) {
     }
 }
@@ -0,0 +1,16 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a singleton bean should not be created when the context is refreshed,
+ * but on first retrieval. If the bean is injected into another bean through a public interface,
+ * a proxy is injected instead, which creates the bean on its first method call.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {
+}
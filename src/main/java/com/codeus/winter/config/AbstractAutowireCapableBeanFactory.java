@@ -1,23 +1,36 @@
 package com.codeus.winter.config;
 
 import com.codeus.winter.annotation.Autowired;
+import com.codeus.winter.config.impl.ReflectiveInstantiationStrategy;
 import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.metrics.StartupRecorder;
 import com.codeus.winter.util.ClassUtils;
 import jakarta.annotation.Nullable;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An extension of {@link BeanFactory} that provides extra logic for bean resolving and autowiring.
  */
 public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory {
-    private final ConstructorResolver constructorResolver;
+    private final Map<String, BeanInstanceSupplier<?>> beanInstanceSuppliers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ConstructorPlan> constructorPlans = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> asyncInitializations = new ConcurrentHashMap<>();
+    private volatile InstantiationStrategy instantiationStrategy;
+    private volatile StartupRecorder startupRecorder = StartupRecorder.NO_OP;
+    private volatile ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+    private volatile ConstructorResolver constructorResolver;
 
     protected AbstractAutowireCapableBeanFactory() {
-        this.constructorResolver = new ConstructorResolver(this);
+        setInstantiationStrategy(new ReflectiveInstantiationStrategy());
     }
 
     /**
@@ -30,6 +43,86 @@ public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory
      */
     public abstract Object resolveDependency(DependencyDescriptor descriptor);
 
+    /**
+     * Sets the strategy used to call bean constructors. Defaults to {@link ReflectiveInstantiationStrategy}.
+     *
+     * @param instantiationStrategy an instantiation strategy, e.g.
+     *                              {@link com.codeus.winter.config.impl.MethodHandleInstantiationStrategy}.
+     */
+    public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+        this.constructorResolver = new ConstructorResolver(this, instantiationStrategy, startupRecorder);
+    }
+
+    /**
+     * Returns the strategy used to call bean constructors.
+     *
+     * @return the instantiation strategy.
+     */
+    public InstantiationStrategy getInstantiationStrategy() {
+        return instantiationStrategy;
+    }
+
+    /**
+     * Sets the recorder of the bean creation steps. Defaults to {@link StartupRecorder#NO_OP}.
+     *
+     * @param startupRecorder a startup recorder, e.g. a {@link com.codeus.winter.metrics.BufferingStartupRecorder}.
+     */
+    public void setStartupRecorder(StartupRecorder startupRecorder) {
+        this.startupRecorder = startupRecorder;
+        this.constructorResolver = new ConstructorResolver(this, instantiationStrategy, startupRecorder);
+    }
+
+    /**
+     * Returns the recorder of the bean creation steps.
+     *
+     * @return the startup recorder.
+     */
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+
+    /**
+     * Sets the class loader to resolve bean class names against.
+     * Defaults to {@link ClassUtils#getDefaultClassLoader()}.
+     *
+     * @param beanClassLoader a class loader.
+     */
+    public void setBeanClassLoader(ClassLoader beanClassLoader) {
+        this.beanClassLoader = beanClassLoader;
+    }
+
+    /**
+     * Returns the class loader to resolve bean class names against.
+     *
+     * @return the bean class loader.
+     */
+    public ClassLoader getBeanClassLoader() {
+        return beanClassLoader;
+    }
+
+    /**
+     * Registers an ahead-of-time generated supplier that creates and autowires instances of its bean class.
+     * Beans of that class are then created by the supplier instead of reflective constructor resolution
+     * and injection.
+     *
+     * @param beanInstanceSupplier a supplier to register.
+     */
+    public void registerBeanInstanceSupplier(BeanInstanceSupplier<?> beanInstanceSupplier) {
+        beanInstanceSuppliers.put(beanInstanceSupplier.getBeanClass().getName(), beanInstanceSupplier);
+    }
+
+    /**
+     * Returns the registered supplier for the given bean class name.
+     *
+     * @param beanClassName a bean class name.
+     * @return the supplier, or {@code null} if beans of the class have to be created reflectively.
+     */
+    @Nullable
+    public BeanInstanceSupplier<?> getBeanInstanceSupplier(@Nullable String beanClassName) {
+        return beanClassName != null ? beanInstanceSuppliers.get(beanClassName) : null;
+    }
+
     /**
      * Delegates constructor autowiring to the {@link ConstructorResolver}.
      *
@@ -40,6 +133,82 @@ public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory
         return constructorResolver.autowireConstructor(constructor);
     }
 
+    /**
+     * Delegates constructor autowiring of a cached plan to the {@link ConstructorResolver}.
+     *
+     * @param constructorPlan a plan with an autowiring constructor.
+     * @return a bean instance with autowired arguments.
+     */
+    Object autowireConstructor(ConstructorPlan constructorPlan) {
+        return constructorResolver.autowireConstructor(constructorPlan);
+    }
+
+    /**
+     * Registers the asynchronous initialization of a bean, e.g. of its
+     * {@link com.codeus.winter.annotation.AsyncInit} methods. Beans that get the bean injected wait until
+     * the initialization completes. The initialization is dropped once it completes successfully.
+     *
+     * @param beanName       a name of a bean.
+     * @param initialization the pending initialization of the bean.
+     */
+    public void registerAsyncInitialization(String beanName, CompletableFuture<?> initialization) {
+        asyncInitializations.put(beanName, initialization);
+        initialization.thenRun(() -> asyncInitializations.remove(beanName, initialization));
+    }
+
+    /**
+     * Waits until all registered asynchronous initializations complete.
+     *
+     * @throws BeanFactoryException if some initializations failed. The failure of the first failed bean
+     *                              is thrown, the other failures are added to it as suppressed exceptions.
+     */
+    public void awaitAsyncInitializations() {
+        BeanFactoryException failure = null;
+        for (Map.Entry<String, CompletableFuture<?>> initialization : List.copyOf(asyncInitializations.entrySet())) {
+            try {
+                awaitAsyncInitialization(initialization.getKey(), initialization.getValue());
+            } catch (BeanFactoryException e) {
+                asyncInitializations.remove(initialization.getKey(), initialization.getValue());
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits until the asynchronous initialization of a bean completes, if it has one pending.
+     *
+     * @param beanName a name of a bean.
+     * @param bean     the bean.
+     * @return the given bean.
+     * @throws BeanFactoryException if the initialization failed.
+     */
+    protected Object awaitAsyncInitialization(String beanName, Object bean) {
+        if (!asyncInitializations.isEmpty()) {
+            CompletableFuture<?> initialization = asyncInitializations.get(beanName);
+            if (initialization != null) {
+                awaitAsyncInitialization(beanName, initialization);
+            }
+        }
+        return bean;
+    }
+
+    private static void awaitAsyncInitialization(String beanName, CompletableFuture<?> initialization) {
+        try {
+            initialization.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new BeanFactoryException("Asynchronous initialization of bean %s failed".formatted(beanName),
+                    cause);
+        }
+    }
+
     /**
      * Searches for a public constructor for a given bean's name and definition that can be used for bean autowiring.
      * The found constructor is never a default constructor (constructor without arguments).
@@ -52,13 +221,33 @@ public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory
     @Nullable
     protected Constructor<?> findAutowiringConstructor(String beanName,
                                                        BeanDefinition beanDefinition) {
-        String className = retrieveBeanClassName(beanDefinition, beanName);
-        Class<?> beanClass = ClassUtils.resolveClass(className);
+        return getConstructorPlan(beanName, beanDefinition).getAutowiringConstructor();
+    }
+
+    /**
+     * Returns the constructor plan of the bean class of given definition. The plan is built on first use
+     * and cached per bean class.
+     *
+     * @param beanName       a name of a bean.
+     * @param beanDefinition a definition of a bean.
+     * @return the constructor plan of the bean class.
+     * @throws RuntimeException if Bean class has two or more constructors marked with the {@link Autowired} annotation.
+     */
+    ConstructorPlan getConstructorPlan(String beanName, BeanDefinition beanDefinition) {
+        Class<?> beanClass = resolveBeanClass(beanName, beanDefinition);
+        ConstructorPlan constructorPlan = constructorPlans.get(beanClass);
+        if (constructorPlan == null) {
+            constructorPlan = constructorPlans.computeIfAbsent(beanClass, this::buildConstructorPlan);
+        }
+        return constructorPlan;
+    }
+
+    private ConstructorPlan buildConstructorPlan(Class<?> beanClass) {
         Constructor<?>[] constructors = beanClass.getConstructors();
 
         List<Constructor<?>> candidates = new ArrayList<>();
         Constructor<?> explicitAutowiringConstructor = null;
-        boolean hasExplicitDefaultConstructor = false;
+        Constructor<?> explicitDefaultConstructor = null;
         for (Constructor<?> constructor : constructors) {
             if (hasAutowiredAnnotation(constructor)) {
                 if (explicitAutowiringConstructor != null) {
@@ -70,22 +259,25 @@ public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory
             }
 
             if (constructor.getParameterCount() == 0) {
-                hasExplicitDefaultConstructor = true;
+                explicitDefaultConstructor = constructor;
             }
 
             candidates.add(constructor);
         }
 
+        Constructor<?> autowiringConstructor;
         if (explicitAutowiringConstructor != null) {
-            return explicitAutowiringConstructor;
-        } else if (candidates.size() == 1 && !hasExplicitDefaultConstructor) {
-            return candidates.getFirst();
-        } else if (candidates.size() == 2 && hasExplicitDefaultConstructor) {
-            return candidates.stream().filter(constructor -> constructor.getParameterCount() > 0).findAny()
+            autowiringConstructor = explicitAutowiringConstructor;
+        } else if (candidates.size() == 1 && explicitDefaultConstructor == null) {
+            autowiringConstructor = candidates.getFirst();
+        } else if (candidates.size() == 2 && explicitDefaultConstructor != null) {
+            autowiringConstructor = candidates.stream().filter(constructor -> constructor.getParameterCount() > 0)
+                    .findAny()
                     .orElse(null);
         } else {
-            return null;
+            autowiringConstructor = null;
         }
+        return ConstructorPlan.of(beanClass, autowiringConstructor, explicitDefaultConstructor);
     }
 
     /**
@@ -100,6 +292,24 @@ public abstract class AbstractAutowireCapableBeanFactory implements BeanFactory
     }
 
 
+    /**
+     * Resolves the bean class of given bean definition against the bean class loader.
+     * The class is cached in the definition, so only the first call per definition looks the class up.
+     *
+     * @param beanName       a name of a bean.
+     * @param beanDefinition a definition to resolve the bean class of.
+     * @return a bean class.
+     * @throws BeanFactoryException     if bean class name is {@code null} in given bean definition.
+     * @throws IllegalArgumentException if the bean class cannot be found.
+     */
+    protected Class<?> resolveBeanClass(String beanName, BeanDefinition beanDefinition) {
+        Class<?> beanClass = beanDefinition.resolveBeanClass(beanClassLoader);
+        if (beanClass == null) {
+            beanClass = ClassUtils.resolveClass(retrieveBeanClassName(beanDefinition, beanName), beanClassLoader);
+        }
+        return beanClass;
+    }
+
     /**
      * Safely retrieves bean class name from given bean definition.
      *
@@ -23,6 +23,23 @@ public interface BeanDefinition {
     @Nullable
     String getBeanClassName();
 
+    /**
+     * Specify the bean class of this bean definition, e.g. when the class is already loaded.
+     * Also sets the bean class name.
+     * @param beanClass bean class, or {@code null} to clear it.
+     */
+    void setBeanClass(@Nullable Class<?> beanClass);
+
+    /**
+     * Return the bean class, resolving the bean class name against the given class loader on the first call.
+     * The resolved class is cached in this definition until the bean class name changes.
+     * @param classLoader the class loader to resolve the bean class name against.
+     * @return the bean class, or {@code null} if no bean class name is set.
+     * @throws IllegalArgumentException if the class cannot be found.
+     */
+    @Nullable
+    Class<?> resolveBeanClass(ClassLoader classLoader);
+
     /**
      * Override the target scope of this bean, specifying a new scope name.
      * @see #SCOPE_SINGLETON
@@ -101,6 +118,20 @@ public interface BeanDefinition {
      */
     boolean isPrimary();
 
+    /**
+     * Set whether this bean should be lazily initialized.
+     * <p>A lazy singleton is not created by the eager initialization of all beans,
+     * but on first retrieval or on first use of an injected proxy.
+     * @param lazyInit true if bean is lazy.
+     */
+    void setLazyInit(boolean lazyInit);
+
+    /**
+     * Return whether this bean should be lazily initialized.
+     * @return true if bean is lazy, if not - false.
+     */
+    boolean isLazyInit();
+
     /**
      * Specify the factory bean to use, if any.
      * This the name of the bean to call the specified factory method on.
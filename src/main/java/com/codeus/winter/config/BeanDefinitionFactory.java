@@ -20,7 +20,7 @@ final class BeanDefinitionFactory {
      */
     static BeanDefinition prototypeBeanDefinition(Class<?> beanClass) {
         BeanDefinition beanDefinition = new BeanDefinitionImpl();
-        beanDefinition.setBeanClassName(beanClass.getName());
+        beanDefinition.setBeanClass(beanClass);
         beanDefinition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
 
         return beanDefinition;
@@ -0,0 +1,117 @@
+package com.codeus.winter.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Dependency graph of bean definitions split into levels for parallel initialization
+ * and flattened into a creation order for sequential initialization.
+ * <p>
+ * Every bean of a level depends only on beans of the previous levels, so all beans of one level
+ * can be created concurrently once the previous levels are created. Beans are kept in registration order
+ * inside a level. Beans that take part in a dependency cycle, or depend on such beans, cannot be levelled
+ * and are returned separately.
+ */
+final class BeanDependencyGraph {
+
+    private final List<List<String>> levels;
+    private final List<String> unresolvedBeanNames;
+
+    private BeanDependencyGraph(List<List<String>> levels, List<String> unresolvedBeanNames) {
+        this.levels = levels;
+        this.unresolvedBeanNames = unresolvedBeanNames;
+    }
+
+    /**
+     * Builds the graph with Kahn's algorithm in time linear in the number of beans and dependencies,
+     * apart from sorting each level by registration order.
+     *
+     * @param beanNames          names of the beans in registration order.
+     * @param dependencyResolver returns the names of the beans a bean depends on.
+     * @return the levelled dependency graph.
+     */
+    static BeanDependencyGraph build(Collection<String> beanNames,
+                                     Function<String, Collection<String>> dependencyResolver) {
+        Map<String, Integer> registrationIndexes = new HashMap<>();
+        for (String beanName : beanNames) {
+            registrationIndexes.putIfAbsent(beanName, registrationIndexes.size());
+        }
+
+        Map<String, Integer> unresolvedDependencyCounts = new LinkedHashMap<>();
+        Map<String, List<String>> dependentBeanNames = new HashMap<>();
+        for (String beanName : beanNames) {
+            Set<String> dependencies = new LinkedHashSet<>();
+            for (String dependency : dependencyResolver.apply(beanName)) {
+                if (!dependency.equals(beanName) && registrationIndexes.containsKey(dependency)) {
+                    dependencies.add(dependency);
+                }
+            }
+            unresolvedDependencyCounts.put(beanName, dependencies.size());
+            for (String dependency : dependencies) {
+                dependentBeanNames.computeIfAbsent(dependency, name -> new ArrayList<>()).add(beanName);
+            }
+        }
+
+        List<List<String>> levels = new ArrayList<>();
+        List<String> level = unresolvedDependencyCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() == 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        while (!level.isEmpty()) {
+            levels.add(level);
+            level.forEach(unresolvedDependencyCounts::remove);
+
+            List<String> nextLevel = new ArrayList<>();
+            for (String beanName : level) {
+                for (String dependentBeanName : dependentBeanNames.getOrDefault(beanName, List.of())) {
+                    if (unresolvedDependencyCounts.merge(dependentBeanName, -1, Integer::sum) == 0) {
+                        nextLevel.add(dependentBeanName);
+                    }
+                }
+            }
+            nextLevel.sort(Comparator.comparingInt(registrationIndexes::get));
+            level = List.copyOf(nextLevel);
+        }
+
+        return new BeanDependencyGraph(List.copyOf(levels), List.copyOf(unresolvedDependencyCounts.keySet()));
+    }
+
+    /**
+     * Returns the levels of the graph, the first level holds beans without dependencies.
+     *
+     * @return bean names grouped by level.
+     */
+    List<List<String>> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns all beans in an order in which every bean comes after its dependencies: the levels one by one,
+     * followed by the beans that could not be levelled.
+     *
+     * @return names of all beans of the graph.
+     */
+    List<String> getCreationOrder() {
+        List<String> creationOrder = new ArrayList<>();
+        levels.forEach(creationOrder::addAll);
+        creationOrder.addAll(unresolvedBeanNames);
+        return creationOrder;
+    }
+
+    /**
+     * Returns the beans that could not be levelled because of a dependency cycle, in registration order.
+     *
+     * @return names of the beans outside of the levels.
+     */
+    List<String> getUnresolvedBeanNames() {
+        return unresolvedBeanNames;
+    }
+}
@@ -1,6 +1,9 @@
 package com.codeus.winter.config;
 
 import com.codeus.winter.exception.BeanNotFoundException;
+import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+
+import java.util.Optional;
 
 public interface BeanFactory {
 
@@ -44,6 +47,48 @@ public interface BeanFactory {
      */
     <T> T getBean(Class<T> requiredType) throws BeanNotFoundException;
 
+    /**
+     * Returns the bean object of this application context for specified name if there is one.
+     * Unlike {@link #getBean(String)}, a missing bean doesn't cost an exception.
+     *
+     * @param name bean's name.
+     * @return the bean object, or an empty optional if bean not found for specified name.
+     */
+    Optional<Object> findBean(String name);
+
+    /**
+     * Returns the bean object of this application context for the specified class type if there is one.
+     * Unlike {@link #getBean(Class)}, a missing bean doesn't cost an exception.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return the bean object, or an empty optional if no bean found for specified type.
+     * @throws NotUniqueBeanDefinitionException if there are multiple beans of the type and none of them is primary.
+     */
+    <T> Optional<T> findBean(Class<T> requiredType);
+
+    /**
+     * Returns a provider of the bean of the specified class type. The provider can be kept and called repeatedly,
+     * e.g. to probe for an optional bean on every request.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return a bean provider.
+     */
+    <T> ObjectProvider<T> getBeanProvider(Class<T> requiredType);
+
+    /**
+     * Returns a handle to the bean with the specified name. The name is looked up and the type is checked once,
+     * the handle then retrieves the bean in constant time.
+     *
+     * @param name         bean name
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return a handle to the bean.
+     * @throws BeanNotFoundException if bean not found for specified name and type.
+     */
+    <T> BeanHandle<T> getBeanHandle(String name, Class<T> requiredType) throws BeanNotFoundException;
+
     /**
      * Creates a prototype-scoped bean for the specified bean class.
      *
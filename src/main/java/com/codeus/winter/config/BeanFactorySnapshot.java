@@ -0,0 +1,60 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable copy of the bean registrations and the candidate index of a frozen {@link DefaultBeanFactory}.
+ * <p>
+ * The snapshot holds a {@link Map#copyOf(Map) Map.copyOf} of the bean slots by name and an immutable list
+ * of candidates per indexed type. Every lookup is a read of an immutable map, so request threads read
+ * the snapshot without any synchronization. The singletons are not copied: the snapshot shares
+ * the {@link BeanSlot}s of the factory, so singletons created after freezing are found as well.
+ */
+final class BeanFactorySnapshot {
+
+    private final Map<String, BeanSlot> slotsByName;
+    private final Map<Class<?>, List<Map.Entry<String, BeanDefinition>>> candidatesByType;
+
+    /**
+     * Copies the state of a bean factory.
+     *
+     * @param slotsByName          bean slots by bean name.
+     * @param candidateNamesByType names of the beans assignable to each indexed type.
+     */
+    BeanFactorySnapshot(Map<String, BeanSlot> slotsByName, Map<Class<?>, Set<String>> candidateNamesByType) {
+        this.slotsByName = Map.copyOf(slotsByName);
+
+        Map<Class<?>, List<Map.Entry<String, BeanDefinition>>> candidates = new HashMap<>();
+        candidateNamesByType.forEach((type, candidateNames) -> candidates.put(type, candidateNames.stream()
+                .filter(this.slotsByName::containsKey)
+                .map(candidateName -> Map.entry(candidateName, this.slotsByName.get(candidateName).getDefinition()))
+                .toList()));
+        this.candidatesByType = Map.copyOf(candidates);
+    }
+
+    /**
+     * Returns the slot of a bean.
+     *
+     * @param beanName a name of a bean.
+     * @return the slot, {@code null} - if there is no bean with the given name.
+     */
+    @Nullable
+    BeanSlot getSlot(String beanName) {
+        return slotsByName.get(beanName);
+    }
+
+    /**
+     * Returns the candidates assignable to the given type, in the order of the candidate index.
+     *
+     * @param type a type to find candidates for.
+     * @return an immutable list of bean names and definitions.
+     */
+    List<Map.Entry<String, BeanDefinition>> getCandidates(Class<?> type) {
+        return candidatesByType.getOrDefault(type, List.of());
+    }
+}
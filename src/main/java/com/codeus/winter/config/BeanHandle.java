@@ -0,0 +1,66 @@
+package com.codeus.winter.config;
+
+/**
+ * A reference to a bean that is resolved by name once, see {@link BeanFactory#getBeanHandle(String, Class)}.
+ * <p>
+ * Dereferencing a handle of a created singleton is a single field read, without hashing the bean name
+ * or checking the type again, so handles suit hot paths that retrieve the same bean repeatedly.
+ * Handles of prototype beans create a new instance on every {@link #get()}.
+ * If the bean is replaced through {@link BeanFactory#registerBean}, the handle returns the new instance.
+ *
+ * @param <T> the type of the bean
+ */
+public final class BeanHandle<T> {
+
+    private final DefaultBeanFactory beanFactory;
+    private final BeanSlot slot;
+
+    BeanHandle(DefaultBeanFactory beanFactory, BeanSlot slot) {
+        this.beanFactory = beanFactory;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the dense ID the bean was given at registration. IDs start from 0 in every bean factory.
+     *
+     * @return the bean ID.
+     */
+    public int getBeanId() {
+        return slot.getId();
+    }
+
+    /**
+     * Returns the name of the bean.
+     *
+     * @return the bean name.
+     */
+    public String getBeanName() {
+        return slot.getName();
+    }
+
+    /**
+     * Returns the bean, creating it if it is a prototype or a singleton that wasn't created yet.
+     *
+     * @return the bean instance.
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object singleton = slot.getSingleton();
+        return (T) (singleton != null ? singleton : beanFactory.getBean(slot));
+    }
+
+    /**
+     * Returns the bean like {@link #get()}, once a pending asynchronous initialization of it completes.
+     *
+     * @return the initialized bean instance.
+     */
+    @SuppressWarnings("unchecked")
+    T getInitialized() {
+        return (T) beanFactory.awaitAsyncInitialization(slot.getName(), get());
+    }
+
+    @Override
+    public String toString() {
+        return "BeanHandle[" + slot.getName() + "#" + slot.getId() + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package com.codeus.winter.config;
+
+/**
+ * Creates fully autowired instances of a single bean class without reflection.
+ * <p>
+ * Implementations are generated ahead of time by the {@code winter-processor} annotation processor
+ * when it runs with the {@code -Awinter.aot=true} option. A generated supplier invokes the autowiring
+ * constructor directly and assigns {@code @Autowired} fields and methods in plain Java code.
+ * Generated suppliers are registered as {@link java.util.ServiceLoader} services of this interface.
+ *
+ * @param <T> the type of the bean.
+ */
+public interface BeanInstanceSupplier<T> {
+
+    /**
+     * Return the bean class this supplier creates instances of.
+     *
+     * @return the bean class.
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Create a new bean instance and inject all of its {@code @Autowired} dependencies.
+     *
+     * @param beanFactory a bean factory to resolve dependencies with.
+     * @return a new bean instance.
+     */
+    T get(AbstractAutowireCapableBeanFactory beanFactory);
+}
@@ -5,6 +5,20 @@ import com.codeus.winter.exception.BeanNotFoundException;
 import jakarta.annotation.Nullable;
 
 public interface BeanPostProcessor {
+    /**
+     * Determine whether this {@code BeanPostProcessor} applies to beans of the given class.
+     * <p>The factory asks once per bean class and caches the post-processors that apply, so beans
+     * of a class no post-processor applies to are not post-processed at all. The answer must therefore
+     * depend on the class only and not change later.
+     * <p>The default implementation returns {@code true}.
+     * @param beanClass the class of a new bean instance
+     * @return {@code true} if the post-processing callbacks are supposed to be called for beans of the class,
+     * {@code false} if they would return the bean as-is
+     */
+    default boolean appliesTo(Class<?> beanClass) {
+        return true;
+    }
+
     /**
      * Apply this {@code BeanPostProcessor} to the given new bean instance <i>before</i> any bean
      * initialization callbacks (like InitializingBean's {@code afterPropertiesSet}
@@ -0,0 +1,63 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Registration of one bean in a {@link DefaultBeanFactory}: its dense integer ID, name, current definition
+ * and, once created, its singleton instance.
+ * <p>
+ * Slots are created when a bean is registered and are never replaced, so a {@link BeanHandle} holding
+ * a slot keeps seeing the current singleton of its bean.
+ */
+final class BeanSlot {
+
+    private final int id;
+    private final String name;
+    private volatile BeanDefinition definition;
+    private volatile Object singleton;
+    private volatile boolean registered;
+
+    BeanSlot(int id, String name, BeanDefinition definition) {
+        this.id = id;
+        this.name = name;
+        this.definition = definition;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    BeanDefinition getDefinition() {
+        return definition;
+    }
+
+    void setDefinition(BeanDefinition definition) {
+        this.definition = definition;
+    }
+
+    @Nullable
+    Object getSingleton() {
+        return singleton;
+    }
+
+    void setSingleton(@Nullable Object singleton) {
+        this.singleton = singleton;
+    }
+
+    /**
+     * Returns whether the singleton was registered from outside rather than created by the factory.
+     *
+     * @return {@code true} if the singleton was registered together with the bean.
+     */
+    boolean isRegistered() {
+        return registered;
+    }
+
+    void setRegistered(boolean registered) {
+        this.registered = registered;
+    }
+}
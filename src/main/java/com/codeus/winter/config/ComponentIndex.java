@@ -0,0 +1,178 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Build-time index of component classes, read from every {@value #COMPONENTS_RESOURCE_LOCATION}
+ * resource available on the classpath.
+ * <p>
+ * The index is generated by the {@code winter-processor} annotation processor. Each entry maps a binary
+ * class name to a {@code ;}-separated list of {@code attribute:value} pairs, for example:
+ * <pre>
+ * com.example.OrderService=stereotypes:com.codeus.winter.annotation.Component;scope:singleton;primary:true;\
+ * lazy:true;dependsOn:com.example.OrderRepository,com.example.Clock;initMethod:start,warmUp;destroyMethod:stop
+ * </pre>
+ * Attributes that are not present take their default, e.g. {@code lazy} is {@code false}.
+ * Using the index lets the container find components without walking the classpath
+ * and build their {@link BeanDefinition}s without reflecting over the component classes.
+ */
+public final class ComponentIndex {
+
+    /**
+     * Location of the component index resources.
+     */
+    public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/winter.components";
+
+    private static final String ATTRIBUTE_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = ":";
+    private static final String LIST_SEPARATOR = ",";
+
+    private final Map<String, Entry> entries;
+
+    private ComponentIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads and merges all component index resources visible to the given class loader.
+     *
+     * @param classLoader a class loader to look up index resources with.
+     * @return the component index, or {@code null} if no index resource is present.
+     * @throws BeanDefinitionStoreException if an index resource cannot be read.
+     */
+    @Nullable
+    public static ComponentIndex load(ClassLoader classLoader) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Properties properties = new Properties();
+                try (InputStream inputStream = resource.openStream()) {
+                    properties.load(inputStream);
+                }
+                for (String className : properties.stringPropertyNames()) {
+                    entries.putIfAbsent(className, parseEntry(className, properties.getProperty(className)));
+                }
+            }
+        } catch (IOException e) {
+            throw new BeanDefinitionStoreException(
+                    "Unable to load component index from " + COMPONENTS_RESOURCE_LOCATION, e);
+        }
+
+        return new ComponentIndex(Collections.unmodifiableMap(entries));
+    }
+
+    /**
+     * Returns the indexed components located in the given package or any of its subpackages
+     * that carry at least one of the given stereotype annotations.
+     *
+     * @param basePackage a package to look up components in.
+     * @param stereotypes the stereotype annotations to look for.
+     * @return the matching index entries, or an empty list if the index doesn't cover the package.
+     */
+    public List<Entry> getComponents(String basePackage, Set<Class<? extends Annotation>> stereotypes) {
+        String packagePrefix = basePackage + ".";
+        List<Entry> components = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.className().startsWith(packagePrefix) && hasAnyStereotype(entry, stereotypes)) {
+                components.add(entry);
+            }
+        }
+
+        return components;
+    }
+
+    /**
+     * Returns the index entry for the given class.
+     *
+     * @param className a binary name of a component class.
+     * @return the index entry, or {@code null} if the class is not indexed.
+     */
+    @Nullable
+    public Entry getComponent(String className) {
+        return entries.get(className);
+    }
+
+    private static boolean hasAnyStereotype(Entry entry, Set<Class<? extends Annotation>> stereotypes) {
+        for (Class<? extends Annotation> stereotype : stereotypes) {
+            if (entry.stereotypes().contains(stereotype.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry parseEntry(String className, String value) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String attribute : value.split(ATTRIBUTE_SEPARATOR)) {
+            int separatorIndex = attribute.indexOf(VALUE_SEPARATOR);
+            if (separatorIndex > 0) {
+                attributes.put(attribute.substring(0, separatorIndex).trim(),
+                        attribute.substring(separatorIndex + 1).trim());
+            }
+        }
+
+        return new Entry(
+                className,
+                Set.copyOf(splitList(attributes.get("stereotypes"))),
+                attributes.get("scope"),
+                Boolean.parseBoolean(attributes.get("primary")),
+                Boolean.parseBoolean(attributes.get("lazy")),
+                Boolean.parseBoolean(attributes.get("eventListener")),
+                splitList(attributes.get("dependsOn")),
+                splitList(attributes.get("initMethod")),
+                splitList(attributes.get("destroyMethod"))
+        );
+    }
+
+    private static List<String> splitList(@Nullable String value) {
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(LIST_SEPARATOR)).map(String::trim).toList();
+    }
+
+    /**
+     * A single indexed component.
+     *
+     * @param className          the binary name of the component class.
+     * @param stereotypes        fully qualified names of the stereotype annotations present on the class.
+     * @param scope              the scope declared with {@code @Scope}, or {@code null} if not declared.
+     * @param primary            whether the class is annotated with {@code @Primary}.
+     * @param lazy               whether the class is annotated with {@code @Lazy}.
+     * @param eventListener      whether the class declares {@code @EventListener} methods.
+     * @param dependsOn          class names of the autowired dependencies.
+     * @param initMethodNames    names of the {@code @PostConstruct} methods, inherited ones first.
+     * @param destroyMethodNames names of the {@code @PreDestroy} methods, inherited ones first.
+     */
+    public record Entry(String className,
+                        Set<String> stereotypes,
+                        @Nullable String scope,
+                        boolean primary,
+                        boolean lazy,
+                        boolean eventListener,
+                        List<String> dependsOn,
+                        List<String> initMethodNames,
+                        List<String> destroyMethodNames) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+
+/**
+ * Describes how beans of one class are constructed: the chosen constructor and the descriptors of its parameters.
+ * <p>
+ * Plans are built once per bean class by {@link AbstractAutowireCapableBeanFactory} and shared by every bean
+ * of the class, so creating a prototype doesn't look up constructors or parameters again. As the descriptors
+ * are reused, the factory can also cache what each of them was resolved to.
+ */
+final class ConstructorPlan {
+
+    private final Class<?> beanClass;
+    private final Constructor<?> autowiringConstructor;
+    private final Constructor<?> defaultConstructor;
+    private final DependencyDescriptor[] descriptors;
+
+    private ConstructorPlan(Class<?> beanClass,
+                            @Nullable Constructor<?> autowiringConstructor,
+                            @Nullable Constructor<?> defaultConstructor,
+                            DependencyDescriptor[] descriptors) {
+        this.beanClass = beanClass;
+        this.autowiringConstructor = autowiringConstructor;
+        this.defaultConstructor = defaultConstructor;
+        this.descriptors = descriptors;
+    }
+
+    /**
+     * Creates a plan for the given bean class.
+     *
+     * @param beanClass             a bean class.
+     * @param autowiringConstructor a constructor to autowire, {@code null} - to use the default constructor.
+     * @param defaultConstructor    the public constructor without parameters, {@code null} - if there is none.
+     * @return a constructor plan.
+     */
+    static ConstructorPlan of(Class<?> beanClass,
+                              @Nullable Constructor<?> autowiringConstructor,
+                              @Nullable Constructor<?> defaultConstructor) {
+        if (autowiringConstructor == null) {
+            return new ConstructorPlan(beanClass, null, defaultConstructor, new DependencyDescriptor[0]);
+        }
+
+        Parameter[] parameters = autowiringConstructor.getParameters();
+        DependencyDescriptor[] descriptors = new DependencyDescriptor[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            descriptors[i] = DependencyDescriptor.from(parameters[i]).reusable();
+        }
+        return new ConstructorPlan(beanClass, autowiringConstructor, defaultConstructor, descriptors);
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    @Nullable
+    Constructor<?> getAutowiringConstructor() {
+        return autowiringConstructor;
+    }
+
+    @Nullable
+    Constructor<?> getDefaultConstructor() {
+        return defaultConstructor;
+    }
+
+    /**
+     * Returns the descriptors of the autowiring constructor parameters. The array must not be modified.
+     *
+     * @return the parameter descriptors, empty if there is no autowiring constructor.
+     */
+    DependencyDescriptor[] getDescriptors() {
+        return descriptors;
+    }
+}
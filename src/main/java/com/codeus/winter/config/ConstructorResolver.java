@@ -1,21 +1,38 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.config.impl.ReflectiveInstantiationStrategy;
 import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.metrics.StartupRecorder;
+import com.codeus.winter.metrics.StartupStep;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 
 public class ConstructorResolver {
 
     private final AbstractAutowireCapableBeanFactory beanFactory;
+    private final InstantiationStrategy instantiationStrategy;
+    private final StartupRecorder startupRecorder;
 
     public ConstructorResolver(AbstractAutowireCapableBeanFactory beanFactory) {
+        this(beanFactory, new ReflectiveInstantiationStrategy());
+    }
+
+    public ConstructorResolver(AbstractAutowireCapableBeanFactory beanFactory,
+                               InstantiationStrategy instantiationStrategy) {
+        this(beanFactory, instantiationStrategy, StartupRecorder.NO_OP);
+    }
+
+    public ConstructorResolver(AbstractAutowireCapableBeanFactory beanFactory,
+                               InstantiationStrategy instantiationStrategy,
+                               StartupRecorder startupRecorder) {
         this.beanFactory = beanFactory;
+        this.instantiationStrategy = instantiationStrategy;
+        this.startupRecorder = startupRecorder;
     }
 
     /**
-     * Instantiates bean using given autowiring constructor.
+     * Instantiates bean using given autowiring constructor and the {@link InstantiationStrategy}.
      *
      * @param constructor a constructor to autowire.
      * @return a bean instance.
@@ -24,13 +41,31 @@ public class ConstructorResolver {
 `     * Also, may contain exceptions thrown by the constructor.
      */
     public Object autowireConstructor(Constructor<?> constructor) {
-        Object[] resolvedDependencies = makeArgumentArray(constructor);
+        Object[] resolvedDependencies;
+        try (StartupStep step = startupRecorder.start("winter.bean.constructor.arguments")) {
+            step.tag("constructor", constructor.getName());
+            resolvedDependencies = makeArgumentArray(constructor);
+        }
 
-        try {
-            return constructor.newInstance(resolvedDependencies);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new BeanFactoryException("Unable to create bean instance due to: " + e.getMessage(), e);
+        return instantiationStrategy.instantiate(constructor, resolvedDependencies);
+    }
+
+    /**
+     * Instantiates bean using the autowiring constructor of given plan and the {@link InstantiationStrategy}.
+     * Unlike {@link #autowireConstructor(Constructor)}, the parameter descriptors are taken from the plan.
+     *
+     * @param constructorPlan a constructor plan with an autowiring constructor.
+     * @return a bean instance.
+     */
+    Object autowireConstructor(ConstructorPlan constructorPlan) {
+        Constructor<?> constructor = constructorPlan.getAutowiringConstructor();
+        Object[] resolvedDependencies;
+        try (StartupStep step = startupRecorder.start("winter.bean.constructor.arguments")) {
+            step.tag("constructor", constructor.getName());
+            resolvedDependencies = makeArgumentArray(constructorPlan);
         }
+
+        return instantiationStrategy.instantiate(constructor, resolvedDependencies);
     }
 
     /**
@@ -49,4 +84,20 @@ public class ConstructorResolver {
         }
         return resolvedDependencies;
     }
+
+    /**
+     * Makes arguments array for the autowiring constructor of given plan, using the descriptors of the plan.
+     *
+     * @param constructorPlan a constructor plan to make arguments array for.
+     * @return an array of bean instances that forms arguments array for the constructor of the plan.
+     */
+    Object[] makeArgumentArray(ConstructorPlan constructorPlan) {
+        DependencyDescriptor[] descriptors = constructorPlan.getDescriptors();
+        Object[] resolvedDependencies = new Object[descriptors.length];
+
+        for (int i = 0; i < descriptors.length; i++) {
+            resolvedDependencies[i] = beanFactory.resolveDependency(descriptors[i]);
+        }
+        return resolvedDependencies;
+    }
 }
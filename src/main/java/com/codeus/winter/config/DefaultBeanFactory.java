@@ -5,49 +5,104 @@ import com.codeus.winter.exception.BeanCurrentlyInCreationException;
 import com.codeus.winter.exception.BeanFactoryException;
 import com.codeus.winter.exception.BeanNotFoundException;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+import com.codeus.winter.metrics.BeanInstantiationEvent;
+import com.codeus.winter.metrics.BeanPostProcessEvent;
+import com.codeus.winter.metrics.DependencyResolutionEvent;
+import com.codeus.winter.metrics.StartupRecorder;
+import com.codeus.winter.metrics.StartupStep;
 import com.codeus.winter.util.ClassUtils;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.inject.Provider;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.codeus.winter.util.ClassUtils.resolveClass;
-
 /**
  * Default implementation of the {@link BeanFactory} interface.
+ * <p>
+ * Beans can be retrieved concurrently from any number of threads. Created singletons are read without locking,
+ * and every singleton is created under its own lock, so unrelated singletons can be created in parallel
+ * while each singleton is still created exactly once. Bean definitions are expected to be registered
+ * before the factory is used concurrently.
+ * <p>
+ * Every registered bean gets a dense integer ID and a slot that holds its singleton once created.
+ * A {@link BeanHandle} keeps the slot, so callers that retrieve the same bean repeatedly can resolve its name once.
+ * <p>
+ * Dependencies are resolved once per injection point: the names of the beans a
+ * {@link DependencyDescriptor#isReusable() reusable} {@link DependencyDescriptor} resolved to are cached,
+ * so creating further beans with the same descriptors, e.g. prototypes, only looks the beans up by name.
+ * Descriptors created per resolution are resolved every time and never cached.
+ * The bean chosen for a type requested from {@link #getBean(Class)} is cached the same way.
+ * Registering a bean definition invalidates all cached names.
+ * <p>
+ * Post-processors are applied through a chain built once per bean class, which contains only the post-processors
+ * that {@link BeanPostProcessor#appliesTo(Class) apply to} the class. Adding a post-processor drops the chains.
+ * <p>
+ * Once all beans are registered, the factory can be {@link #freeze() frozen}. Lookups are then served from an
+ * immutable snapshot and further registrations fail.
  */
 public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
-
-    private final Map<String, Object> singletonBeans = new HashMap<>();
+    private final Map<String, BeanSlot> beanSlots = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> singletonLocks = new ConcurrentHashMap<>();
+    private final Map<String, Thread> singletonCreators = new ConcurrentHashMap<>();
+    private final Map<Thread, String> awaitedSingletons = new ConcurrentHashMap<>();
     private final Map<String, BeanDefinition> beanDefinitions;
-    private final List<BeanPostProcessor> postProcessors = new ArrayList<>();
-    private final Set<String> singletonsCurrentlyInCreation = new HashSet<>(16);
+    private final Map<Class<?>, Set<String>> candidateNamesByType = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> indexedTypesByName = new ConcurrentHashMap<>();
+    private final Map<InjectionPoint, ResolvedWiring> resolvedWirings = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ResolvedType> resolvedTypes = new ConcurrentHashMap<>();
+    private final AtomicLong resolutionGeneration = new AtomicLong();
+    private volatile BeanFactorySnapshot snapshot;
+    private volatile boolean lookupStackTraces = true;
+    private int beanCount;
+    private final List<BeanPostProcessor> postProcessors = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, List<BeanPostProcessor>> postProcessorChains = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> singletonsCurrentlyInCreation = new ThreadLocal<>();
     private final QualifierAnnotationAutowireCandidateResolver qualifierAnnotationAutowireCandidateResolver =
             new QualifierAnnotationAutowireCandidateResolver();
 
 
     public DefaultBeanFactory() {
-        this(new HashMap<>());
+        this(new ConcurrentHashMap<>());
     }
 
     public DefaultBeanFactory(Map<String, BeanDefinition> beanDefinitions) {
         super();
-        //TODO should we make a copy, so it won't be possible to modify beanDefinitions from outside?
+        // the map stays shared with the caller until the factory is frozen, lookups then use a copy
         this.beanDefinitions = beanDefinitions;
+        beanDefinitions.forEach(this::registerSlot);
     }
 
     /**
@@ -56,13 +111,18 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      * @param name           the name of the bean
      * @param beanDefinition the definition of the bean
      * @throws IllegalArgumentException if a bean with the same name already exists
+     * @throws BeanFactoryException     if the bean factory is frozen
      */
     @Override
-    public void registerBeanDefinition(@Nonnull final String name, @Nonnull final BeanDefinition beanDefinition) {
+    public synchronized void registerBeanDefinition(@Nonnull final String name,
+                                                    @Nonnull final BeanDefinition beanDefinition) {
+        checkNotFrozen(name);
         if (beanDefinitions.containsKey(name)) {
             throw new BeanFactoryException(String.format("A bean with name '%s' is already defined.", name));
         }
         beanDefinitions.put(name, beanDefinition);
+        registerSlot(name, beanDefinition);
+        invalidateResolutionCaches();
     }
 
     /**
@@ -74,8 +134,9 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      */
     @Override
     public final Object getBean(@Nonnull final String name) throws BeanNotFoundException {
-        BeanDefinition beanDefinition = getBeanDefinition(name);
-        return getBean(name, beanDefinition);
+        BeanSlot slot = getBeanSlot(name);
+        Object singleton = slot.getSingleton();
+        return singleton != null ? singleton : getBean(slot);
     }
 
     /**
@@ -91,12 +152,10 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
     @Override
     public final <T> T getBean(@Nonnull final String name,
                                @Nonnull final Class<T> requiredType) throws BeanNotFoundException {
-        BeanDefinition beanDefinition = getBeanDefinition(name);
-        Object bean = getBean(name, beanDefinition);
+        Object bean = getBean(name);
 
         if (!requiredType.isAssignableFrom(bean.getClass())) {
-            throw new BeanNotFoundException(String.format("Bean with a name %s is not compatible with the type %s",
-                    name, requiredType.getName()));
+            throw beanNotFound("Bean with a name %s is not compatible with the type %s", name, requiredType.getName());
         }
 
         return requiredType.cast(bean);
@@ -112,12 +171,96 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      */
     @Override
     public final <T> T getBean(@Nonnull final Class<T> requiredType) throws BeanNotFoundException {
-        Object bean = resolveBean(new DependencyDescriptor(requiredType));
+        T bean = getBeanIfAvailable(requiredType);
         if (bean == null) {
-            throw new BeanNotFoundException("Bean for type=%s not found".formatted(requiredType.getName()));
+            throw beanNotFound("Bean for type=%s not found", requiredType.getName());
         }
 
-        return requiredType.cast(bean);
+        return bean;
+    }
+
+    /**
+     * Returns the bean object of this application context for specified name if there is one.
+     *
+     * @param name bean's name.
+     * @return the bean object, or an empty optional if bean not found for specified name.
+     */
+    @Override
+    public final Optional<Object> findBean(@Nonnull final String name) {
+        BeanSlot slot = findBeanSlot(name);
+        if (slot == null) {
+            return Optional.empty();
+        }
+
+        Object singleton = slot.getSingleton();
+        return Optional.of(singleton != null ? singleton : getBean(slot));
+    }
+
+    /**
+     * Returns the bean object of this application context for the specified class type if there is one.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return the bean object, or an empty optional if no bean found for specified type.
+     * @throws NotUniqueBeanDefinitionException if there are multiple candidates and none of them is primary.
+     */
+    @Override
+    public final <T> Optional<T> findBean(@Nonnull final Class<T> requiredType) {
+        return Optional.ofNullable(getBeanIfAvailable(requiredType));
+    }
+
+    /**
+     * Returns a provider of the bean of the specified class type, which looks the bean up on every call.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return a bean provider.
+     */
+    @Override
+    public final <T> ObjectProvider<T> getBeanProvider(@Nonnull final Class<T> requiredType) {
+        return new DependencyObjectProvider<>(this, new DependencyDescriptor(requiredType));
+    }
+
+    /**
+     * Returns the bean of the requested type without wrapping it, so a provider probing for a bean doesn't allocate.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return the bean object, {@code null} - if no bean found for specified type.
+     */
+    @Nullable
+    final <T> T getBeanIfAvailable(Class<T> requiredType) {
+        BeanSlot slot = resolveTypeSlot(requiredType);
+        if (slot == null) {
+            return null;
+        }
+
+        Object singleton = slot.getSingleton();
+        return requiredType.cast(singleton != null ? singleton : getBean(slot));
+    }
+
+    /**
+     * Returns the slot of the unique or primary bean of the requested type. The chosen slot, or the absence
+     * of any candidate, is cached per type until a bean definition is registered, so repeated retrievals
+     * of a created singleton by type don't allocate.
+     *
+     * @param requiredType a requested type.
+     * @return the slot of the bean, {@code null} - if no candidates found for given type.
+     * @throws NotUniqueBeanDefinitionException if there are multiple candidates and none of them is primary.
+     */
+    @Nullable
+    private BeanSlot resolveTypeSlot(Class<?> requiredType) {
+        long generation = getResolutionGeneration();
+        ResolvedType resolvedType = resolvedTypes.get(requiredType);
+        if (resolvedType != null && resolvedType.generation() == generation) {
+            return resolvedType.slot();
+        }
+
+        Map.Entry<String, BeanDefinition> targetCandidate =
+                determineTargetCandidate(new DependencyDescriptor(requiredType));
+        BeanSlot slot = targetCandidate != null ? getBeanSlot(targetCandidate.getKey()) : null;
+        resolvedTypes.put(requiredType, new ResolvedType(generation, slot));
+        return slot;
     }
 
     /**
@@ -140,15 +283,18 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      * @param name           bean's name.
      * @param beanDefinition bean's BeanDefinition.
      * @param beanInstance   bean's instance.
+     * @throws BeanFactoryException if the bean factory is frozen.
      */
     @Override
-    public final void registerBean(@Nonnull final String name,
-                                   @Nonnull final BeanDefinition beanDefinition,
-                                   @Nonnull final Object beanInstance) {
-        if (beanDefinition.isSingleton()) {
-            singletonBeans.put(name, beanInstance);
-        }
+    public final synchronized void registerBean(@Nonnull final String name,
+                                                @Nonnull final BeanDefinition beanDefinition,
+                                                @Nonnull final Object beanInstance) {
+        checkNotFrozen(name);
         beanDefinitions.put(name, beanDefinition);
+        BeanSlot slot = registerSlot(name, beanDefinition);
+        slot.setSingleton(beanDefinition.isSingleton() ? beanInstance : null);
+        slot.setRegistered(beanDefinition.isSingleton());
+        invalidateResolutionCaches();
     }
 
     /**
@@ -159,15 +305,166 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
     @Override
     public final void addBeanPostProcessor(@Nonnull final BeanPostProcessor postProcessor) {
         postProcessors.add(postProcessor);
+        postProcessorChains = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a handle to the bean with the given name, which retrieves the bean without a lookup by name.
+     *
+     * @param name         bean name
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return a bean handle.
+     * @throws BeanNotFoundException if bean not found for specified name and type.
+     */
+    @Override
+    public final <T> BeanHandle<T> getBeanHandle(@Nonnull final String name,
+                                                 @Nonnull final Class<T> requiredType) throws BeanNotFoundException {
+        BeanSlot slot = getBeanSlot(name);
+        Class<?> beanClass = resolveBeanClass(name, slot.getDefinition());
+        if (!requiredType.isAssignableFrom(beanClass)) {
+            throw beanNotFound("Bean with a name %s is not compatible with the type %s", name, requiredType.getName());
+        }
+
+        return new BeanHandle<>(this, slot);
+    }
+
+    /**
+     * Sets whether a {@link BeanNotFoundException} or {@link NotUniqueBeanDefinitionException} thrown
+     * by a failed retrieval of a bean by name or type, or by a failed dependency resolution, captures
+     * a stack trace. Defaults to {@code true}.
+     * <p>
+     * Capturing the stack trace dominates the cost of a miss. Disable it when code probes for optional beans
+     * by catching the exception; prefer {@link #findBean(Class)} or {@link #getBeanProvider(Class)} for new code.
+     *
+     * @param lookupStackTraces {@code false} - to throw exceptions without a stack trace.
+     */
+    public void setLookupStackTraces(boolean lookupStackTraces) {
+        this.lookupStackTraces = lookupStackTraces;
+    }
+
+    /**
+     * Freezes the bean factory: copies the bean slots and the candidate index into an immutable
+     * snapshot that serves all later lookups without synchronization. The slots themselves are shared,
+     * so singletons created after freezing are stored in and found through the same slots.
+     * After freezing, {@link #registerBeanDefinition} and {@link #registerBean} fail and the map of bean
+     * definitions passed on construction is no longer read by lookups. Freezing a frozen factory has no effect.
+     */
+    public synchronized void freeze() {
+        if (snapshot == null) {
+            registerAddedDefinitions();
+            snapshot = new BeanFactorySnapshot(beanSlots, candidateNamesByType);
+        }
+    }
+
+    /**
+     * Checks if the bean factory is frozen.
+     *
+     * @return {@code true} - if {@link #freeze()} was called, {@code false} - otherwise.
+     */
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    /**
+     * Creates the slot of a newly registered bean with the next bean ID, or updates the definition
+     * in the slot of a replaced bean. The bean is indexed in the same step, so every bean that can be found
+     * by name can be found by type as well.
+     *
+     * @param beanName       a name of a bean.
+     * @param beanDefinition a definition of a bean.
+     * @return the slot of the bean.
+     */
+    private synchronized BeanSlot registerSlot(String beanName, BeanDefinition beanDefinition) {
+        BeanSlot slot = beanSlots.get(beanName);
+        if (slot != null) {
+            removeCandidate(beanName);
+            slot.setDefinition(beanDefinition);
+        } else {
+            slot = new BeanSlot(beanCount++, beanName, beanDefinition);
+            beanSlots.put(beanName, slot);
+        }
+        addCandidate(beanName, beanDefinition);
+        return slot;
+    }
+
+    /**
+     * Registers the slots of the beans added to the map of bean definitions passed on construction
+     * without going through this factory. Every bean gets a slot, so the check is a size comparison
+     * as long as no bean was added.
+     */
+    private void registerAddedDefinitions() {
+        if (snapshot != null || beanSlots.size() >= beanDefinitions.size()) {
+            return;
+        }
+        synchronized (this) {
+            beanDefinitions.forEach((beanName, beanDefinition) -> {
+                if (!beanSlots.containsKey(beanName)) {
+                    registerSlot(beanName, beanDefinition);
+                }
+            });
+            invalidateResolutionCaches();
+        }
+    }
+
+    /**
+     * Returns the slot of a bean, from the snapshot if the factory is frozen.
+     * Beans added to the map of bean definitions passed on construction get their slot on first retrieval,
+     * see {@link #registerAddedDefinitions()}.
+     *
+     * @param name a name of a bean.
+     * @return the slot of the bean.
+     * @throws BeanNotFoundException if bean not found for specified name.
+     */
+    private BeanSlot getBeanSlot(String name) {
+        BeanSlot slot = findBeanSlot(name);
+        if (slot == null) {
+            throw beanNotFound("Bean for name='%s' not found", name);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot of a bean like {@link #getBeanSlot(String)}, without failing if there is no such bean.
+     *
+     * @param name a name of a bean.
+     * @return the slot of the bean, {@code null} - if bean not found for specified name.
+     */
+    @Nullable
+    private BeanSlot findBeanSlot(String name) {
+        BeanFactorySnapshot frozenBeans = snapshot;
+        if (frozenBeans != null) {
+            return frozenBeans.getSlot(name);
+        }
+
+        BeanSlot slot = beanSlots.get(name);
+        if (slot == null && beanDefinitions.containsKey(name)) {
+            registerAddedDefinitions();
+            slot = beanSlots.get(name);
+        }
+        return slot;
+    }
+
+    BeanNotFoundException beanNotFound(String messageFormat, Object... args) {
+        return new BeanNotFoundException(messageFormat.formatted(args), lookupStackTraces);
+    }
+
+    private void checkNotFrozen(String beanName) {
+        if (snapshot != null) {
+            throw new BeanFactoryException(
+                    "Cannot register bean '%s', the bean factory is frozen".formatted(beanName));
+        }
     }
 
     /**
      * Initializes all beans defined in the bean definitions map.
      * <p>
-     * This method attempts to initialize each bean, ensuring their dependencies are resolved.
-     * If a bean cannot be initialized due to unresolved dependencies, it is added to a pending list.
-     * The method iteratively resolves dependencies for pending beans until all beans are initialized
-     * or a circular or unresolved dependency is detected, which results in an exception.
+     * Beans are created one by one in the order of the dependency graph built from
+     * {@link BeanDefinition#getDependsOn()} and the constructor parameters, see {@link BeanDependencyGraph},
+     * so the dependencies of a bean already exist when it is created and deep dependency chains
+     * don't nest bean creation. Beans of a dependency cycle are created last; a cycle is reported with
+     * a {@link BeanCurrentlyInCreationException} holding its full path.
+     * Lazy singletons are skipped, see {@link BeanDefinition#isLazyInit()}.
      * </p>
      * <p>
      * <b>Note:</b> All postProcessors should be added before calling this method
@@ -177,12 +474,309 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      * @throws BeanFactoryException if some beans have unresolved dependencies after attempting to initialize them.
      */
     public void initializeBeans() {
-        for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
-            String beanName = entry.getKey();
-            BeanDefinition beanDefinition = entry.getValue();
+        try (StartupStep initializeStep = getStartupRecorder().start("winter.beans.initialize")) {
+            for (String beanName : buildDependencyGraph().getCreationOrder()) {
+                initializeBean(beanName, beanDefinitions.get(beanName), initializeStep);
+            }
+        }
+    }
+
+    /**
+     * Initializes all beans defined in the bean definitions map in parallel on the given executor.
+     * <p>
+     * The beans are split into levels of the dependency graph built from {@link BeanDefinition#getDependsOn()},
+     * see {@link BeanDependencyGraph}. Beans of one level don't depend on each other and are created concurrently,
+     * the next level starts once the whole level is created. Beans that cannot be levelled because of a dependency
+     * cycle are created afterward on the calling thread, which reports the cycle the same way as
+     * {@link #initializeBeans()}. Lazy singletons are skipped.
+     * </p>
+     * <p>
+     * Use {@link java.util.concurrent.ForkJoinPool#commonPool()} for CPU-bound initialization
+     * or {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()} when beans block
+     * in their init methods, e.g. while opening connections.
+     * </p>
+     *
+     * @param executor an executor to create the beans on.
+     * @throws BeanFactoryException if some beans cannot be initialized. When several beans of a level fail,
+     *                              the failure of the first registered bean is thrown and the other failures
+     *                              are added to it as suppressed exceptions.
+     */
+    public void initializeBeans(Executor executor) {
+        try (StartupStep initializeStep = getStartupRecorder().start("winter.beans.initialize")) {
+            BeanDependencyGraph dependencyGraph = buildDependencyGraph();
+
+            for (List<String> level : dependencyGraph.getLevels()) {
+                List<CompletableFuture<Object>> beanFutures = new ArrayList<>(level.size());
+                for (String beanName : level) {
+                    BeanDefinition beanDefinition = beanDefinitions.get(beanName);
+                    beanFutures.add(CompletableFuture.supplyAsync(
+                            () -> initializeBean(beanName, beanDefinition, initializeStep), executor));
+                }
+                awaitBeans(beanFutures);
+            }
+
+            for (String beanName : dependencyGraph.getUnresolvedBeanNames()) {
+                initializeBean(beanName, beanDefinitions.get(beanName), initializeStep);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a bean during the initialization of all beans, recording the retrieval as a child
+     * of the initialization step even if it runs on another thread.
+     *
+     * @param beanName       a name of a bean to initialize.
+     * @param beanDefinition a definition of a bean to initialize.
+     * @param initializeStep the step of the initialization of all beans.
+     * @return a bean instance.
+     */
+    private Object initializeBean(String beanName, BeanDefinition beanDefinition, StartupStep initializeStep) {
+        try (StartupStep step = getStartupRecorder().start("winter.bean.initialize", initializeStep)) {
+            step.tag("beanName", beanName);
+            return getBean(beanName, beanDefinition);
+        }
+    }
+
+    /**
+     * Waits until all given beans are created and rethrows the first failure in the order of the futures.
+     *
+     * @param beanFutures futures of the beans being created.
+     */
+    private void awaitBeans(List<CompletableFuture<Object>> beanFutures) {
+        RuntimeException failure = null;
+        for (CompletableFuture<Object> beanFuture : beanFutures) {
+            try {
+                beanFuture.join();
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                RuntimeException beanFailure = cause instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new BeanFactoryException("Unable to initialize bean: " + cause.getMessage(), cause);
+                if (failure == null) {
+                    failure = beanFailure;
+                } else {
+                    failure.addSuppressed(beanFailure);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Destroys all created singletons by calling the {@link DestructionBeanPostProcessor}s that require
+     * their destruction, see {@link DestructionBeanPostProcessor#requiresDestruction(Object)}.
+     * <p>
+     * Singletons are destroyed in the reverse order of the dependency graph they were created in, so a bean
+     * is destroyed before the beans it depends on. Beans of one level don't depend on each other and are destroyed
+     * concurrently on virtual threads. Beans without a callback are skipped. A bean whose callbacks don't complete
+     * within the timeout is interrupted and given up on, so a slow bean delays the shutdown by the timeout at most.
+     * Beans that take part in a dependency cycle are destroyed first, one by one.
+     * </p>
+     * <p>
+     * Afterward, the singletons created by the factory are dropped, retrieving such a bean creates it again.
+     * Singletons registered through {@link #registerBean} are kept, as the factory cannot create them.
+     * </p>
+     *
+     * @param destroyTimeout the maximum time to wait for the callbacks of a single bean.
+     * @throws BeanFactoryException if some beans failed or timed out; the failures are added as suppressed
+     *                              exceptions once all the other beans are destroyed.
+     */
+    public void destroySingletons(Duration destroyTimeout) {
+        Map<String, Object> singletons = new LinkedHashMap<>();
+        List<BeanSlot> createdSlots = beanSlots.values().stream()
+                .filter(slot -> slot.getSingleton() != null)
+                .sorted(Comparator.comparingInt(BeanSlot::getId))
+                .toList();
+        createdSlots.forEach(slot -> singletons.put(slot.getName(), slot.getSingleton()));
+        List<RuntimeException> orderingFailures = new ArrayList<>();
+        BeanDependencyGraph dependencyGraph = BeanDependencyGraph.build(List.copyOf(singletons.keySet()),
+                beanName -> resolveCreatedBeanDependencies(beanName, orderingFailures));
+
+        List<List<String>> destructionOrder = new ArrayList<>();
+        for (String beanName : dependencyGraph.getUnresolvedBeanNames().reversed()) {
+            destructionOrder.add(List.of(beanName));
+        }
+        destructionOrder.addAll(dependencyGraph.getLevels().reversed());
+
+        List<RuntimeException> failures = new ArrayList<>();
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("winter-destroy-", 0)
+                .factory());
+        try {
+            for (List<String> level : destructionOrder) {
+                destroyBeans(level, singletons, destroyTimeout, executor, failures);
+            }
+        } finally {
+            executor.shutdownNow();
+            createdSlots.stream()
+                    .filter(slot -> !slot.isRegistered())
+                    .forEach(slot -> slot.setSingleton(null));
+        }
+
+        if (!failures.isEmpty() || !orderingFailures.isEmpty()) {
+            BeanFactoryException exception = new BeanFactoryException(
+                    "Failed to destroy %d of %d singletons".formatted(failures.size(), singletons.size()));
+            orderingFailures.forEach(exception::addSuppressed);
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Resolves the dependencies of a created singleton to order its destruction. The registrations may have
+     * changed since the singleton was created, a singleton whose dependencies cannot be resolved anymore
+     * is destroyed as if it had none.
+     *
+     * @param beanName a name of a created singleton.
+     * @param failures collects the resolution failures, they are reported once all the singletons are destroyed.
+     * @return names of the beans the given bean depends on.
+     */
+    private Collection<String> resolveCreatedBeanDependencies(String beanName, List<RuntimeException> failures) {
+        try {
+            return resolveBeanDependencies(beanName);
+        } catch (NotUniqueBeanDefinitionException | BeanFactoryException e) {
+            failures.add(e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Runs the destruction callbacks of independent beans concurrently and waits for each of them
+     * until the timeout has passed since they were started.
+     *
+     * @param beanNames      names of the beans to destroy.
+     * @param singletons     the singletons to destroy by bean name.
+     * @param destroyTimeout the maximum time to wait for the callbacks of a single bean.
+     * @param executor       an executor to run the callbacks on.
+     * @param failures       collects the failures and timeouts.
+     */
+    private void destroyBeans(List<String> beanNames,
+                              Map<String, Object> singletons,
+                              Duration destroyTimeout,
+                              ExecutorService executor,
+                              List<RuntimeException> failures) {
+        long deadline = System.nanoTime() + destroyTimeout.toNanos();
+        Map<String, Future<?>> destructions = new LinkedHashMap<>();
+        for (String beanName : beanNames) {
+            Object bean = singletons.get(beanName);
+            List<DestructionBeanPostProcessor> destructionPostProcessors = getDestructionPostProcessors(bean);
+            if (!destructionPostProcessors.isEmpty()) {
+                destructions.put(beanName, executor.submit(() -> destructionPostProcessors.forEach(
+                        postProcessor -> postProcessor.postProcessBeforeDestruction(bean, beanName))));
+            }
+        }
+
+        for (Map.Entry<String, Future<?>> destruction : destructions.entrySet()) {
+            String beanName = destruction.getKey();
+            try {
+                destruction.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                destruction.getValue().cancel(true);
+                failures.add(new BeanFactoryException(
+                        "Destruction of bean %s timed out after %s".formatted(beanName, destroyTimeout), e));
+            } catch (ExecutionException e) {
+                failures.add(new BeanFactoryException("Failed to destroy bean: " + beanName, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BeanFactoryException("Interrupted while destroying bean: " + beanName, e);
+            }
+        }
+    }
+
+    private List<DestructionBeanPostProcessor> getDestructionPostProcessors(Object bean) {
+        List<DestructionBeanPostProcessor> destructionPostProcessors = new ArrayList<>();
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            if (postProcessor instanceof DestructionBeanPostProcessor destructionPostProcessor
+                    && destructionPostProcessor.requiresDestruction(bean)) {
+                destructionPostProcessors.add(destructionPostProcessor);
+            }
+        }
+        return destructionPostProcessors;
+    }
+
+    /**
+     * Builds the dependency graph of all beans to initialize eagerly, i.e. of all beans except lazy singletons,
+     * in the iteration order of the bean definitions.
+     *
+     * @return the dependency graph.
+     */
+    private BeanDependencyGraph buildDependencyGraph() {
+        List<String> beanNames = beanDefinitions.entrySet().stream()
+                .filter(entry -> !isLazySingleton(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        return BeanDependencyGraph.build(beanNames, this::resolveBeanDependencies);
+    }
+
+    /**
+     * Resolves the names of the beans a bean depends on: its {@link BeanDefinition#getDependsOn()} entries
+     * and the beans its constructor parameters resolve to. Provider parameters don't need their bean up front,
+     * and beans created by a {@link BeanInstanceSupplier} are not reflected over.
+     *
+     * A bean without a class name or with a class that cannot be found adds no dependencies,
+     * creating the bean reports it.
+     *
+     * @param beanName a name of a bean to resolve dependencies for.
+     * @return names of the beans the given bean depends on.
+     * @throws NotUniqueBeanDefinitionException if a constructor parameter matches several beans
+     *                                          and none of them is qualified or primary.
+     * @throws BeanFactoryException             if the bean class has several autowiring constructors.
+     */
+    private Collection<String> resolveBeanDependencies(String beanName) {
+        BeanDefinition beanDefinition = beanDefinitions.get(beanName);
+        Set<String> dependencies = new LinkedHashSet<>(resolveDependsOn(beanName));
+        if (getBeanInstanceSupplier(beanDefinition.getBeanClassName()) != null) {
+            return dependencies;
+        }
 
-            getBean(beanName, beanDefinition);
+        try {
+            resolveBeanClass(beanName, beanDefinition);
+        } catch (BeanFactoryException | IllegalArgumentException e) {
+            return dependencies;
         }
+        for (DependencyDescriptor descriptor : getConstructorPlan(beanName, beanDefinition).getDescriptors()) {
+            if (!isProviderDependency(descriptor.getDependencyClass())) {
+                List<String> targetNames = determineTargetNames(descriptor);
+                if (targetNames != null) {
+                    dependencies.addAll(targetNames);
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Resolves the {@link BeanDefinition#getDependsOn()} entries of a bean to bean names.
+     * An entry is either a bean name or a name of a class whose candidate beans the bean depends on.
+     * Class names are looked up among the types of the candidate index, so no class is loaded here.
+     * Entries that match neither, e.g. collection types, are ignored, the beans behind them are still created
+     * on demand during injection.
+     *
+     * @param beanName a name of a bean to resolve dependencies for.
+     * @return names of the beans the given bean depends on.
+     */
+    private Collection<String> resolveDependsOn(String beanName) {
+        String[] dependsOn = beanDefinitions.get(beanName).getDependsOn();
+        if (dependsOn == null) {
+            return List.of();
+        }
+
+        Set<String> dependencies = new LinkedHashSet<>();
+        for (String dependency : dependsOn) {
+            if (beanDefinitions.containsKey(dependency)) {
+                dependencies.add(dependency);
+                continue;
+            }
+            Class<?> dependencyType = indexedTypesByName.get(dependency);
+            if (dependencyType != null) {
+                findCandidates(dependencyType).forEach(candidate -> dependencies.add(candidate.getKey()));
+            }
+        }
+        return dependencies;
     }
 
     /**
@@ -196,7 +790,7 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      */
     private Object getBean(String beanName, BeanDefinition beanDefinition) {
         if (beanDefinition.isSingleton()) {
-            return getSingleton(beanName, beanDefinition);
+            return getSingleton(getBeanSlot(beanName), beanDefinition);
         } else if (beanDefinition.isPrototype()) {
             return createBean(beanName, beanDefinition);
         } else {
@@ -207,32 +801,135 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
     }
 
     /**
-     * Retrieves an existing singleton bean by bean's name and definition.
+     * Retrieves a bean by its slot, e.g. for a {@link BeanHandle}.
+     *
+     * @param slot a slot of a bean to retrieve.
+     * @return a bean instance.
+     */
+    Object getBean(BeanSlot slot) {
+        BeanDefinition beanDefinition = slot.getDefinition();
+        return beanDefinition.isSingleton()
+                ? getSingleton(slot, beanDefinition)
+                : getBean(slot.getName(), beanDefinition);
+    }
+
+    /**
+     * Retrieves an existing singleton bean by bean's slot and definition.
      * Can create a singleton bean if it is not created yet.
      *
-     * @param beanName       a name of a singleton bean to retrieve or create.
+     * @param slot           a slot of a singleton bean to retrieve or create.
      * @param beanDefinition a definition of a singleton bean to retrieve or create.
      * @return a singleton bean.
      */
-    private Object getSingleton(String beanName, BeanDefinition beanDefinition) {
-        Object singleton = singletonBeans.get(beanName);
-
+    private Object getSingleton(BeanSlot slot, BeanDefinition beanDefinition) {
+        Object singleton = slot.getSingleton();
         if (singleton != null) {
             return singleton;
-        } else {
-            beforeSingletonCreation(beanName);
-            Object beanInstance = createBean(beanName, beanDefinition);
-            afterSingletonCreation(beanName);
-            singletonBeans.put(beanName, beanInstance);
+        }
 
-            return beanInstance;
+        String beanName = slot.getName();
+
+        Set<String> beansInCreation = singletonsCurrentlyInCreation.get();
+        if (beansInCreation != null && beansInCreation.contains(beanName)) {
+            throw new BeanCurrentlyInCreationException(beanName, getCreationPath(beansInCreation, beanName));
+        }
+
+        ReentrantLock singletonLock = lockSingleton(beanName);
+        try {
+            singleton = slot.getSingleton();
+            if (singleton == null) {
+                beforeSingletonCreation(beanName);
+                try {
+                    singleton = createBean(beanName, beanDefinition);
+                } finally {
+                    afterSingletonCreation(beanName);
+                }
+                slot.setSingleton(singleton);
+            }
+
+            return singleton;
+        } finally {
+            singletonLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the singletons the current thread is creating, from the given one to the most recent one,
+     * followed by the given one again, i.e. the path of a cyclic dependency.
+     *
+     * @param beansInCreation the singletons the current thread is creating, in creation order.
+     * @param beanName        a name of a singleton in creation that is requested again.
+     * @return the names of the beans on the cyclic path.
+     */
+    private static List<String> getCreationPath(Set<String> beansInCreation, String beanName) {
+        List<String> creationPath = new ArrayList<>();
+        for (String beanInCreation : beansInCreation) {
+            if (!creationPath.isEmpty() || beanInCreation.equals(beanName)) {
+                creationPath.add(beanInCreation);
+            }
+        }
+        creationPath.add(beanName);
+        return creationPath;
+    }
+
+    /**
+     * Acquires the creation lock of a singleton, waiting while another thread creates it.
+     * Before waiting, the current thread is recorded as waiting for the singleton. If the thread that creates
+     * the singleton is itself waiting, directly or through other threads, for a singleton the current thread
+     * creates, the beans depend on each other and waiting would never end.
+     *
+     * @param beanName a name of a singleton to lock.
+     * @return the acquired lock.
+     * @throws BeanCurrentlyInCreationException if the singletons being created by different threads
+     *                                          have a cyclic dependency.
+     */
+    private ReentrantLock lockSingleton(String beanName) {
+        ReentrantLock singletonLock = singletonLocks.computeIfAbsent(beanName, name -> new ReentrantLock());
+        if (singletonLock.tryLock()) {
+            return singletonLock;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        awaitedSingletons.put(currentThread, beanName);
+        try {
+            if (isAwaitedByCreator(beanName, currentThread)) {
+                throw new BeanCurrentlyInCreationException(beanName);
+            }
+            singletonLock.lock();
+        } finally {
+            awaitedSingletons.remove(currentThread);
         }
+
+        return singletonLock;
     }
 
     /**
-     * Registers a bean as one that is currently in creation.
-     * When bean is registered as "currently in creation", it cannot be injected into another bean.
+     * Follows the chain of threads waiting for singletons, starting from the creator of the given singleton.
+     *
+     * @param beanName a name of a singleton the given thread is about to wait for.
+     * @param thread   a waiting thread.
+     * @return {@code true} if the chain leads back to the given thread.
+     */
+    private boolean isAwaitedByCreator(String beanName, Thread thread) {
+        Set<Thread> visitedCreators = new HashSet<>();
+        Thread creator = singletonCreators.get(beanName);
+        while (creator != null && visitedCreators.add(creator)) {
+            if (creator == thread) {
+                return true;
+            }
+            String awaitedBeanName = awaitedSingletons.get(creator);
+            creator = awaitedBeanName != null ? singletonCreators.get(awaitedBeanName) : null;
+        }
+        return false;
+    }
+
+    /**
+     * Registers a bean as one that is currently in creation by the current thread.
+     * When bean is registered as "currently in creation", it cannot be injected into another bean
+     * created by the same thread.
      * Mainly used to detect cyclic-dependencies.
+     * The set of beans in creation is created by the outermost creation of a thread, so threads that only
+     * look beans up never allocate one.
      *
      * @param beanName a name of a bean to register.
      * @throws BeanCurrentlyInCreationException if the same bean name passed twice
@@ -240,27 +937,39 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      *                                          for it in between.
      */
     private void beforeSingletonCreation(String beanName) {
-        if (!singletonsCurrentlyInCreation.add(beanName)) {
+        Set<String> beansInCreation = singletonsCurrentlyInCreation.get();
+        if (beansInCreation == null) {
+            beansInCreation = new LinkedHashSet<>();
+            singletonsCurrentlyInCreation.set(beansInCreation);
+        }
+        if (!beansInCreation.add(beanName)) {
             throw new BeanCurrentlyInCreationException(beanName);
         }
+        singletonCreators.put(beanName, Thread.currentThread());
     }
 
     /**
-     * Removes a bean from the "currently in creation" list.
-     * Mainly used to detect cyclic-dependencies.
+     * Removes a bean from the "currently in creation" list of the current thread.
+     * Mainly used to detect cyclic-dependencies. The outermost creation of a thread drops the list.
      *
      * @param beanName a name of a bean to deregister.
      * @throws IllegalStateException if the same bean name passed twice that means an incorrect usage of this method.
      */
     private void afterSingletonCreation(String beanName) {
-        if (!singletonsCurrentlyInCreation.remove(beanName)) {
+        singletonCreators.remove(beanName);
+        Set<String> beansInCreation = singletonsCurrentlyInCreation.get();
+        if (beansInCreation == null || !beansInCreation.remove(beanName)) {
             throw new IllegalStateException("Bean %s is not currently in creation.".formatted(beanName));
         }
+        if (beansInCreation.isEmpty()) {
+            singletonsCurrentlyInCreation.remove();
+        }
     }
 
     /**
      * Creates a bean and configures it using registered bean post processors.
-     * The creation process involves checking if bean has autowiring constructor.
+     * Beans with a registered {@link BeanInstanceSupplier} are created and autowired by the supplier.
+     * Otherwise, the creation process involves checking if bean has autowiring constructor.
      * If not, it is instantiated by the default constructor.
      *
      * @param beanName       a name of a bean to create and customize.
@@ -268,41 +977,72 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      * @return an instance of a fully configured bean.
      */
     private Object createBean(String beanName, BeanDefinition beanDefinition) {
-        Object beanInstance;
-        Constructor<?> autowiringConstructor = findAutowiringConstructor(beanName, beanDefinition);
+        BeanInstantiationEvent event = new BeanInstantiationEvent();
+        event.begin();
+        try (StartupStep step = getStartupRecorder().start("winter.bean.create")) {
+            step.tag("beanName", beanName);
 
-        if (autowiringConstructor != null) {
-            beanInstance = autowireConstructor(autowiringConstructor);
-        } else {
-            beanInstance = instantiateBean(beanName, beanDefinition);
+            Object beanInstance = createBeanInstance(beanName, beanDefinition);
+            List<BeanPostProcessor> postProcessorChain = getPostProcessorChain(beanInstance.getClass());
+            if (!postProcessorChain.isEmpty()) {
+                beanInstance = applyPostProcessorsBeforeInitialization(postProcessorChain, beanInstance, beanName);
+                beanInstance = applyPostProcessorsAfterInitialization(postProcessorChain, beanInstance, beanName);
+            }
+
+            return beanInstance;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setBeanName(beanName);
+                event.setBeanClass(beanDefinition.getBeanClassName());
+                event.commit();
+            }
         }
+    }
 
-        beanInstance = applyPostProcessorsBeforeInitialization(beanInstance, beanName);
-        beanInstance = applyPostProcessorsAfterInitialization(beanInstance, beanName);
+    /**
+     * Creates a bean instance by its {@link BeanInstanceSupplier}, autowiring constructor or default constructor.
+     *
+     * @param beanName       a name of a bean to create.
+     * @param beanDefinition a definition of a bean to create.
+     * @return a bean instance, not yet post-processed.
+     */
+    private Object createBeanInstance(String beanName, BeanDefinition beanDefinition) {
+        StartupRecorder startupRecorder = getStartupRecorder();
+        try (StartupStep step = startupRecorder.start("winter.bean.instantiate")) {
+            BeanInstanceSupplier<?> beanInstanceSupplier = getBeanInstanceSupplier(beanDefinition.getBeanClassName());
+            if (beanInstanceSupplier != null) {
+                step.tag("instantiatedBy", "supplier");
+                return beanInstanceSupplier.get(this);
+            }
 
-        return beanInstance;
+            ConstructorPlan constructorPlan;
+            try (StartupStep resolveStep = startupRecorder.start("winter.bean.constructor.resolve")) {
+                constructorPlan = getConstructorPlan(beanName, beanDefinition);
+            }
+            boolean autowiring = constructorPlan.getAutowiringConstructor() != null;
+            step.tag("instantiatedBy", autowiring ? "autowiringConstructor" : "defaultConstructor");
+            return autowiring
+                    ? autowireConstructor(constructorPlan)
+                    : instantiateBean(constructorPlan);
+        }
     }
 
     /**
-     * Instantiates bean by the default constructor using given bean's name and definition.
+     * Instantiates bean by the default constructor of given constructor plan and the {@link InstantiationStrategy}.
      *
-     * @param beanName       a name of a bean to instantiate.
-     * @param beanDefinition a definition of a bean to instantiate.
+     * @param constructorPlan a constructor plan of a bean to instantiate.
      * @return a bean instance.
      * @throws BeanFactoryException if Bean class doesn't have a public default constructor, or it is not accessible.
      *                              May contain exceptions thrown by the constructor.
      */
-    private Object instantiateBean(String beanName, BeanDefinition beanDefinition) {
-        String className = retrieveBeanClassName(beanDefinition, beanName);
-        Class<?> beanClass = ClassUtils.resolveClass(className);
-
-        try {
-            return beanClass.getConstructor().newInstance();
-        } catch (NoSuchMethodException e) {
-            throw new BeanFactoryException("Class has no public default constructor: " + className, e);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new BeanFactoryException("Unable to create bean instance due to: " + e.getMessage(), e);
+    private Object instantiateBean(ConstructorPlan constructorPlan) {
+        Constructor<?> defaultConstructor = constructorPlan.getDefaultConstructor();
+        if (defaultConstructor == null) {
+            throw new BeanFactoryException(
+                    "Class has no public default constructor: " + constructorPlan.getBeanClass().getName());
         }
+
+        return getInstantiationStrategy().instantiate(defaultConstructor);
     }
 
     /**
@@ -313,144 +1053,311 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
      * @param descriptor a dependency descriptor to resolve a bean.
      * @return bean instance that conform the given {@link DependencyDescriptor}.
      */
-    @SuppressWarnings("IfCanBeSwitch")
     @Override
     public Object resolveDependency(DependencyDescriptor descriptor) {
-        Object dependency;
-        Class<?> dependencyClass = descriptor.getDependencyClass();
-        Type dependencyType = descriptor.getDependencyType();
-
-        if (dependencyClass.equals(List.class)) {
-            dependency = getCollectionDependency(dependencyType, 0).toList();
-        } else if (dependencyClass.equals(Set.class)) {
-            dependency = getCollectionDependency(dependencyType, 0).collect(Collectors.toSet());
-        } else if (dependencyClass.equals(Map.class)) {
-            dependency = getCollectionDependency(dependencyType, 1)
-                    .collect(Collectors.toMap(bean -> bean.getClass().getName(), bean -> bean));
-        } else {
-            dependency = resolveSingleDependency(descriptor);
+        DependencyResolutionEvent event = new DependencyResolutionEvent();
+        event.begin();
+        try {
+            return doResolveDependency(descriptor);
+        } finally {
+            if (event.shouldCommit()) {
+                event.setDependencyName(descriptor.getDependencyName());
+                event.setDependencyType(descriptor.getDependencyType().getTypeName());
+                event.commit();
+            }
         }
-        return dependency;
     }
 
-    private Stream<Object> getCollectionDependency(Type parameterType, int valueTypeIndex) {
-        Type dependencyType = ((ParameterizedType) parameterType).getActualTypeArguments()[valueTypeIndex];
-        DependencyDescriptor descriptor = new DependencyDescriptor(dependencyType);
-        return resolveMultipleDependencies(descriptor).stream();
+    private Object doResolveDependency(DependencyDescriptor descriptor) {
+        if (isProviderDependency(descriptor.getDependencyClass())) {
+            return new DependencyObjectProvider<>(this, getProvidedBeanDescriptor(descriptor));
+        }
+
+        if (!descriptor.isReusable()) {
+            return resolveWiring(descriptor, determineTargetNames(descriptor));
+        }
+
+        InjectionPoint injectionPoint = new InjectionPoint(descriptor);
+        long generation = getResolutionGeneration();
+        ResolvedWiring resolvedWiring = resolvedWirings.get(injectionPoint);
+        if (resolvedWiring != null && resolvedWiring.generation() == generation) {
+            return resolveWiring(descriptor, resolvedWiring.beanNames());
+        }
+
+        List<String> beanNames = determineTargetNames(descriptor);
+        Object dependency = resolveWiring(descriptor, beanNames);
+        resolvedWirings.put(injectionPoint, new ResolvedWiring(generation, beanNames));
+        return dependency;
     }
 
     /**
-     * Resolves multiple candidate dependencies by given {@link DependencyDescriptor}.
+     * Returns the dependency of given descriptor from the beans it resolves to.
      *
-     * @param descriptor a dependency descriptor to resolve bean candidates for.
-     * @return a list of bean candidate instances.
+     * @param descriptor a dependency descriptor.
+     * @param beanNames  names of the target beans, see {@link #determineTargetNames(DependencyDescriptor)}.
+     * @return a bean instance or a collection of bean instances.
+     * @throws BeanNotFoundException if there are no target beans.
      */
-    protected List<Object> resolveMultipleDependencies(DependencyDescriptor descriptor) {
-        Class<?> dependencyClass = descriptor.getDependencyClass();
-        List<Object> dependencies = new ArrayList<>();
+    private Object resolveWiring(DependencyDescriptor descriptor, @Nullable List<String> beanNames) {
+        if (isCollectionDependency(descriptor.getDependencyClass())) {
+            if (beanNames.isEmpty()) {
+                throw beanNotFound("Cannot resolve bean for type='%s', no bean definition available",
+                        getCollectionElementDescriptor(descriptor).getDependencyClass().getName());
+            }
+            return collectDependency(descriptor, beanNames.stream()
+                    .map(beanName -> awaitAsyncInitialization(beanName, getBean(beanName))));
+        }
 
-        List<Map.Entry<String, BeanDefinition>> candidates = findCandidates(dependencyClass);
-        if (candidates.isEmpty()) {
-            throw new BeanNotFoundException(
-                "Cannot resolve bean for type='%s', no bean definition available".formatted(dependencyClass.getName()));
+        if (beanNames == null) {
+            throw beanNotFound("Cannot resolve bean for type='%s', no bean definition available",
+                    descriptor.getDependencyClass().getName());
         }
+        return getDependencyBean(getBeanSlot(beanNames.getFirst()), descriptor);
+    }
 
-        for (Map.Entry<String, BeanDefinition> candidate : candidates) {
-            String beanName = candidate.getKey();
-            BeanDefinition beanDefinition = candidate.getValue();
+    private static boolean isCollectionDependency(Class<?> dependencyClass) {
+        return dependencyClass.equals(List.class) || dependencyClass.equals(Set.class)
+                || dependencyClass.equals(Map.class);
+    }
+
+    private static boolean isProviderDependency(Class<?> dependencyClass) {
+        return dependencyClass.equals(ObjectProvider.class) || dependencyClass.equals(Provider.class);
+    }
 
-            dependencies.add(getBean(beanName, beanDefinition));
+    /**
+     * Returns the descriptor of the bean provided to a provider injection point. The descriptor keeps the name
+     * and the annotations of the injection point, so qualifiers apply to the provided bean.
+     *
+     * @param descriptor a descriptor of an {@code ObjectProvider<T>} or {@code Provider<T>} injection point.
+     * @return a descriptor of {@code T}.
+     * @throws BeanFactoryException if the injection point doesn't declare the provided type as a class.
+     */
+    private static DependencyDescriptor getProvidedBeanDescriptor(DependencyDescriptor descriptor) {
+        Type providedType = descriptor.getDependencyType() instanceof ParameterizedType parameterizedType
+                ? parameterizedType.getActualTypeArguments()[0]
+                : null;
+        if (!(providedType instanceof Class<?>) && !(providedType instanceof ParameterizedType)) {
+            throw new BeanFactoryException("Cannot resolve provider '%s', the provided type must be a class: %s"
+                    .formatted(descriptor.getDependencyName(), descriptor.getDependencyType().getTypeName()));
         }
+        return new DependencyDescriptor(descriptor.getDependencyName(), providedType,
+                DependencyDescriptor.getRawType(providedType), descriptor.getAnnotations());
+    }
 
-        return dependencies;
+    private static DependencyDescriptor getCollectionElementDescriptor(DependencyDescriptor descriptor) {
+        int valueTypeIndex = descriptor.getDependencyClass().equals(Map.class) ? 1 : 0;
+        Type parameterType = descriptor.getDependencyType();
+        Type dependencyType = ((ParameterizedType) parameterType).getActualTypeArguments()[valueTypeIndex];
+        return new DependencyDescriptor(dependencyType);
     }
 
     /**
-     * Resolves single dependency by given {@link DependencyDescriptor}.
-     *
-     * @param descriptor a dependency descriptor to resolve a bean for.
-     * @return a bean instance.
+     * Turns resolved beans into the dependency of given descriptor: a List, a Set,
+     * a Map of bean class names to beans, or the single bean itself.
      */
-    protected Object resolveSingleDependency(DependencyDescriptor descriptor) {
+    @SuppressWarnings("IfCanBeSwitch")
+    private static Object collectDependency(DependencyDescriptor descriptor, Stream<Object> beans) {
         Class<?> dependencyClass = descriptor.getDependencyClass();
-        Object resolvedBean = resolveBean(descriptor);
-        if (resolvedBean == null) {
-            throw new BeanNotFoundException(
-                "Cannot resolve bean for type='%s', no bean definition available".formatted(dependencyClass.getName()));
+        if (dependencyClass.equals(List.class)) {
+            return beans.toList();
+        } else if (dependencyClass.equals(Set.class)) {
+            return beans.collect(Collectors.toSet());
+        } else if (dependencyClass.equals(Map.class)) {
+            return beans.collect(Collectors.toMap(bean -> bean.getClass().getName(), bean -> bean));
+        } else {
+            return beans.findFirst().orElseThrow();
         }
+    }
 
-        return resolvedBean;
+    /**
+     * Returns the names of the beans a dependency resolves to, in resolution order.
+     *
+     * @param descriptor a dependency descriptor.
+     * @return bean names, {@code null} - if a single-valued dependency has no candidate in this factory.
+     * @throws NotUniqueBeanDefinitionException if multiple candidates available for a single-valued dependency,
+     *                                          and it is not possible to determine the required one.
+     */
+    @Nullable
+    private List<String> determineTargetNames(DependencyDescriptor descriptor) {
+        if (isCollectionDependency(descriptor.getDependencyClass())) {
+            Class<?> elementClass = getCollectionElementDescriptor(descriptor).getDependencyClass();
+            return findCandidates(elementClass).stream().map(Map.Entry::getKey).toList();
+        }
+
+        Map.Entry<String, BeanDefinition> targetCandidate = determineTargetCandidate(descriptor);
+        return targetCandidate != null ? List.of(targetCandidate.getKey()) : null;
+    }
+
+    /**
+     * Drops all cached bean names of injection points and all cached beans of requested types.
+     * Entries cached by resolutions that are still running belong to the previous generation and are never used.
+     */
+    private void invalidateResolutionCaches() {
+        resolutionGeneration.incrementAndGet();
+        resolvedWirings.clear();
+        resolvedTypes.clear();
     }
 
     /**
      * Finds all available bean candidates' names and definitions in the bean definitions that conform
-     * given target class.
+     * given target class. Candidates are looked up in the type index, so no bean class is resolved here.
      *
      * @param targetClass a class to find bean candidates for.
-     * @return a list of bean candidates' names and definitions that are assignable from the given target class.
-     * @throws BeanFactoryException if a candidate class from bean definitions doesn't exist.
+     * @return a list of bean candidates' names and definitions that are assignable from the given target class,
+     * in the order the candidates were registered.
      */
     protected List<Map.Entry<String, BeanDefinition>> findCandidates(Class<?> targetClass) {
-        List<Map.Entry<String, BeanDefinition>> candidates = new ArrayList<>();
-        for (Map.Entry<String, BeanDefinition> definitionEntry : beanDefinitions.entrySet()) {
-            BeanDefinition candidateDefinition = definitionEntry.getValue();
-            Class<?> candidateClass = resolveClass(candidateDefinition.getBeanClassName());
+        BeanFactorySnapshot frozenBeans = snapshot;
+        if (frozenBeans != null) {
+            return frozenBeans.getCandidates(targetClass);
+        }
 
-            if (targetClass.isAssignableFrom(candidateClass)) {
-                candidates.add(definitionEntry);
-            }
+        registerAddedDefinitions();
+        Set<String> candidateNames = candidateNamesByType.getOrDefault(targetClass, Set.of());
+        List<Map.Entry<String, BeanDefinition>> candidates = new ArrayList<>(candidateNames.size());
+        for (String candidateName : candidateNames) {
+            candidates.add(Map.entry(candidateName, beanDefinitions.get(candidateName)));
         }
 
         return candidates;
     }
 
     /**
-     * Resolves bean instance for given descriptor. Handles multiple candidates using qualifier annotations.
+     * Adds a bean to the type index under its own class, every superclass and every implemented interface,
+     * so that {@link #findCandidates(Class)} is a single map lookup.
+     * Index entries are replaced rather than modified, so lookups never see a partially updated set.
+     * Definitions without a bean class name are not indexed; they fail later on creation.
+     *
+     * @param beanName       a name of a bean to index.
+     * @param beanDefinition a definition of a bean to index.
+     * @throws IllegalArgumentException if the bean class cannot be resolved.
+     */
+    private void addCandidate(String beanName, BeanDefinition beanDefinition) {
+        if (beanDefinition.getBeanClassName() == null) {
+            return;
+        }
+
+        for (Class<?> type : ClassUtils.getAllAssignableTypes(resolveBeanClass(beanName, beanDefinition))) {
+            indexedTypesByName.putIfAbsent(type.getName(), type);
+            candidateNamesByType.compute(type, (key, candidateNames) -> {
+                Set<String> updatedNames = candidateNames != null
+                        ? new LinkedHashSet<>(candidateNames)
+                        : new LinkedHashSet<>();
+                updatedNames.add(beanName);
+                return Collections.unmodifiableSet(updatedNames);
+            });
+        }
+    }
+
+    /**
+     * Removes a bean from the type index, e.g. before its definition gets replaced.
+     *
+     * @param beanName a name of a bean to remove from the index.
+     */
+    private void removeCandidate(String beanName) {
+        candidateNamesByType.replaceAll((type, candidateNames) -> {
+            if (!candidateNames.contains(beanName)) {
+                return candidateNames;
+            }
+            Set<String> updatedNames = new LinkedHashSet<>(candidateNames);
+            updatedNames.remove(beanName);
+            return Collections.unmodifiableSet(updatedNames);
+        });
+    }
+
+    /**
+     * Returns the bean to inject into a single-valued dependency. A lazy singleton that is not created yet
+     * is injected as a proxy if the dependency type is a public interface, otherwise it is created right away.
+     * A bean with a pending asynchronous initialization is returned once the initialization completes.
+     *
+     * @param slot       the slot of the target bean.
+     * @param descriptor a dependency descriptor.
+     * @return a bean instance or a lazy proxy of it.
+     */
+    private Object getDependencyBean(BeanSlot slot, DependencyDescriptor descriptor) {
+        Object singleton = slot.getSingleton();
+        if (singleton != null) {
+            return awaitAsyncInitialization(slot.getName(), singleton);
+        }
+
+        BeanDefinition beanDefinition = slot.getDefinition();
+        Class<?> dependencyClass = descriptor.getDependencyClass();
+        if (isLazySingleton(beanDefinition) && dependencyClass.isInterface()
+                && Modifier.isPublic(dependencyClass.getModifiers())) {
+            return LazyBeanInvocationHandler.createProxy(dependencyClass, new BeanHandle<>(this, slot));
+        }
+        return awaitAsyncInitialization(slot.getName(), getBean(slot));
+    }
+
+    private static boolean isLazySingleton(BeanDefinition beanDefinition) {
+        return beanDefinition.isLazyInit() && beanDefinition.isSingleton();
+    }
+
+    /**
+     * Returns the slot of the bean a descriptor resolves to, for providers that retrieve the bean repeatedly.
      *
-     * @param descriptor a dependency descriptor class.
-     * @return bean instance that is assignable from the given descriptor,
-     * {@code null} - if no candidates found for given descriptor.
-     * @throws NotUniqueBeanDefinitionException if multiple candidates available for the given descriptor,
-     *                                          and it is not possible to determine
-     *                                          the required one (missing qualifier metadata)
+     * @param descriptor a dependency descriptor.
+     * @return the slot of the target bean, {@code null} - if no candidates found.
+     * @throws NotUniqueBeanDefinitionException if it is not possible to determine the required candidate.
      */
     @Nullable
-    protected Object resolveBean(DependencyDescriptor descriptor) {
+    BeanSlot findTargetSlot(DependencyDescriptor descriptor) {
+        Map.Entry<String, BeanDefinition> targetCandidate = determineTargetCandidate(descriptor);
+        return targetCandidate != null ? getBeanSlot(targetCandidate.getKey()) : null;
+    }
+
+    /**
+     * Returns the generation of the resolution caches, which changes whenever a bean definition is registered.
+     * Beans added to the map of bean definitions passed on construction are registered first, so they
+     * invalidate the caches as well.
+     *
+     * @return the current generation.
+     */
+    long getResolutionGeneration() {
+        registerAddedDefinitions();
+        return resolutionGeneration.get();
+    }
+
+    /**
+     * Picks the candidate for given descriptor, by qualifier or primary flag when there are multiple candidates.
+     *
+     * @param descriptor a dependency descriptor.
+     * @return the name and definition of the target bean, {@code null} - if no candidates found.
+     * @throws NotUniqueBeanDefinitionException if it is not possible to determine the required candidate.
+     */
+    @Nullable
+    private Map.Entry<String, BeanDefinition> determineTargetCandidate(DependencyDescriptor descriptor) {
         Class<?> beanClass = descriptor.getDependencyClass();
         List<Map.Entry<String, BeanDefinition>> candidates = findCandidates(beanClass);
 
         if (candidates.isEmpty()) {
             return null;
         }
-
-        Map.Entry<String, BeanDefinition> targetCandidate;
         if (candidates.size() == 1) {
-            targetCandidate = candidates.getFirst();
-        } else {
-            String suggestedName = qualifierAnnotationAutowireCandidateResolver.getSuggestedName(descriptor);
-            if (suggestedName != null) {
-                for (Map.Entry<String, BeanDefinition> candidate : candidates) {
-                    if (candidate.getKey().equals(suggestedName)) {
-                        return getBean(candidate.getKey(), candidate.getValue());
-                    }
-                }
-            }
+            return candidates.getFirst();
+        }
 
-            targetCandidate = determinePrimaryCandidate(candidates);
-            if (targetCandidate != null) {
-                return getBean(targetCandidate.getKey(), targetCandidate.getValue());
+        String suggestedName = qualifierAnnotationAutowireCandidateResolver.getSuggestedName(descriptor);
+        if (suggestedName != null) {
+            for (Map.Entry<String, BeanDefinition> candidate : candidates) {
+                if (candidate.getKey().equals(suggestedName)) {
+                    return candidate;
+                }
             }
+        }
 
-            String candidateClasses = candidates.stream()
-                    .map(candidate -> candidate.getValue().getBeanClassName())
-                    .sorted(Comparator.nullsLast(Comparator.naturalOrder()))
-                    .collect(Collectors.joining(", "));
-            throw new NotUniqueBeanDefinitionException(
-                    "Cannot resolve bean for type='%s', multiple beans are available: %s"
-                            .formatted(beanClass.getName(), candidateClasses));
+        Map.Entry<String, BeanDefinition> targetCandidate = determinePrimaryCandidate(candidates);
+        if (targetCandidate != null) {
+            return targetCandidate;
         }
 
-        return getBean(targetCandidate.getKey(), targetCandidate.getValue());
+        String candidateClasses = candidates.stream()
+                .map(candidate -> candidate.getValue().getBeanClassName())
+                .sorted(Comparator.nullsLast(Comparator.naturalOrder()))
+                .collect(Collectors.joining(", "));
+        throw new NotUniqueBeanDefinitionException(
+                "Cannot resolve bean for type='%s', multiple beans are available: %s"
+                        .formatted(beanClass.getName(), candidateClasses), lookupStackTraces);
     }
 
     private Map.Entry<String, BeanDefinition> determinePrimaryCandidate(
@@ -471,22 +1378,68 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
         return result;
     }
 
-    private Object applyPostProcessorsBeforeInitialization(Object bean, String beanName) {
+    /**
+     * Returns the post-processors that apply to beans of the given class, in the order they were added.
+     * The chain is built once per class until another post-processor is added.
+     *
+     * @param beanClass the class of a new bean instance.
+     * @return an immutable list of post-processors, empty if the beans don't need post-processing.
+     */
+    private List<BeanPostProcessor> getPostProcessorChain(Class<?> beanClass) {
+        return postProcessorChains.computeIfAbsent(beanClass, type -> postProcessors.stream()
+                .filter(postProcessor -> postProcessor.appliesTo(type))
+                .toList());
+    }
+
+    private Object applyPostProcessorsBeforeInitialization(List<BeanPostProcessor> postProcessorChain,
+                                                           Object bean,
+                                                           String beanName) {
         Object result = bean;
-        for (BeanPostProcessor postProcessor : postProcessors) {
-            result = applyPostProcessor(postProcessor::postProcessBeforeInitialization, bean, beanName);
+        for (BeanPostProcessor postProcessor : postProcessorChain) {
+            BeanPostProcessEvent event = new BeanPostProcessEvent();
+            event.begin();
+            try (StartupStep step = startPostProcessStep(postProcessor, beanName, "beforeInitialization")) {
+                result = applyPostProcessor(postProcessor::postProcessBeforeInitialization, result, beanName);
+            } finally {
+                commitPostProcessEvent(event, postProcessor, beanName, "beforeInitialization");
+            }
         }
         return result;
     }
 
-    private Object applyPostProcessorsAfterInitialization(Object bean, String beanName) {
+    private Object applyPostProcessorsAfterInitialization(List<BeanPostProcessor> postProcessorChain,
+                                                          Object bean,
+                                                          String beanName) {
         Object result = bean;
-        for (BeanPostProcessor postProcessor : postProcessors) {
-            result = applyPostProcessor(postProcessor::postProcessAfterInitialization, bean, beanName);
+        for (BeanPostProcessor postProcessor : postProcessorChain) {
+            BeanPostProcessEvent event = new BeanPostProcessEvent();
+            event.begin();
+            try (StartupStep step = startPostProcessStep(postProcessor, beanName, "afterInitialization")) {
+                result = applyPostProcessor(postProcessor::postProcessAfterInitialization, result, beanName);
+            } finally {
+                commitPostProcessEvent(event, postProcessor, beanName, "afterInitialization");
+            }
         }
         return result;
     }
 
+    private static void commitPostProcessEvent(BeanPostProcessEvent event, BeanPostProcessor postProcessor,
+                                               String beanName, String phase) {
+        if (event.shouldCommit()) {
+            event.setBeanName(beanName);
+            event.setPostProcessor(postProcessor.getClass().getName());
+            event.setPhase(phase);
+            event.commit();
+        }
+    }
+
+    private StartupStep startPostProcessStep(BeanPostProcessor postProcessor, String beanName, String phase) {
+        return getStartupRecorder().start("winter.bean.postProcess")
+                .tag("beanName", beanName)
+                .tag("postProcessor", postProcessor.getClass().getName())
+                .tag("phase", phase);
+    }
+
     private Object applyPostProcessor(BiFunction<Object, String, Object> postProcessorFunction,
                                       Object bean,
                                       String beanName) {
@@ -495,20 +1448,25 @@ public class DefaultBeanFactory extends AbstractAutowireCapableBeanFactory {
                         "PostProcessor returned null for bean: %s during post processing", beanName)));
     }
 
-
     /**
-     * Convenient method to retrieve {@link BeanDefinition} by name and throw exception if missing.
-     *
-     * @param name a name of a bean which definition to retrieve.
-     * @return bean definition associated with given name.
-     * @throws BeanNotFoundException if no bean definition registered for given name.
+     * Identifies an injection point by its descriptor instance, as equal descriptors may carry
+     * different qualifiers.
      */
-    private BeanDefinition getBeanDefinition(String name) {
-        BeanDefinition beanDefinition = beanDefinitions.get(name);
-        if (beanDefinition == null) {
-            throw new BeanNotFoundException("Bean for name='%s' not found".formatted(name));
+    private record InjectionPoint(DependencyDescriptor descriptor) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InjectionPoint that && descriptor == that.descriptor;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(descriptor);
         }
+    }
+
+    private record ResolvedWiring(long generation, List<String> beanNames) {
+    }
 
-        return beanDefinition;
+    private record ResolvedType(long generation, @Nullable BeanSlot slot) {
     }
 }
@@ -1,14 +1,22 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.annotation.Qualifier;
+import jakarta.annotation.Nullable;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * A container that holds necessary data for resolving a dependency of a bean.
+ * <p>
+ * A descriptor that is held and resolved again, e.g. by cached injection metadata, is marked
+ * {@link #reusable() reusable}; bean factories cache the resolution of reusable descriptors only.
  */
 public class DependencyDescriptor {
 
@@ -16,16 +24,27 @@ public class DependencyDescriptor {
     private final Type dependencyType;
     private final String dependencyName;
     private final Annotation[] annotations;
+    private final boolean reusable;
 
     public DependencyDescriptor(
             String dependencyName,
             Type dependencyType,
             Class<?> dependencyClass,
             Annotation[] annotations) {
+        this(dependencyName, dependencyType, dependencyClass, annotations, false);
+    }
+
+    private DependencyDescriptor(
+            String dependencyName,
+            Type dependencyType,
+            Class<?> dependencyClass,
+            Annotation[] annotations,
+            boolean reusable) {
         this.dependencyName = dependencyName;
         this.dependencyClass = dependencyClass;
         this.dependencyType = dependencyType;
         this.annotations = annotations;
+        this.reusable = reusable;
     }
 
     public DependencyDescriptor(String dependencyName, Type dependencyType) {
@@ -54,6 +73,34 @@ public class DependencyDescriptor {
         );
     }
 
+    /**
+     * Creates a descriptor without reflecting over a field or parameter, e.g. from generated code.
+     * Generated code holds its descriptors in constants, so the descriptor is {@link #reusable() reusable}.
+     *
+     * @param dependencyName a name of the injection point.
+     * @param dependencyType a type of the injection point.
+     * @param qualifier      a value of the {@link Qualifier} present on the injection point, or {@code null}.
+     * @return a dependency descriptor.
+     */
+    public static DependencyDescriptor of(String dependencyName, Type dependencyType, @Nullable String qualifier) {
+        Annotation[] annotations = qualifier != null
+                ? new Annotation[]{new QualifierLiteral(qualifier)}
+                : new Annotation[0];
+        return new DependencyDescriptor(dependencyName, dependencyType, getRawType(dependencyType), annotations)
+                .reusable();
+    }
+
+    /**
+     * Creates a generic type, e.g. {@code List<Foo>}, without reflecting over a field or parameter.
+     *
+     * @param rawType       a raw type of the generic type.
+     * @param typeArguments actual type arguments of the generic type.
+     * @return a parameterized type.
+     */
+    public static ParameterizedType parameterizedType(Class<?> rawType, Type... typeArguments) {
+        return new SimpleParameterizedType(rawType, typeArguments.clone());
+    }
+
     protected static Class<?> getRawType(Type dependencyType) {
         Type rawType = dependencyType instanceof ParameterizedType
                 ? ((ParameterizedType) dependencyType).getRawType()
@@ -62,6 +109,21 @@ public class DependencyDescriptor {
         return (Class<?>) rawType;
     }
 
+    /**
+     * Returns a copy of this descriptor that is resolved repeatedly for as long as its holder lives.
+     * Only the returned instance is reusable, a descriptor created per resolution must not be marked.
+     *
+     * @return a reusable descriptor.
+     */
+    public DependencyDescriptor reusable() {
+        return reusable ? this : new DependencyDescriptor(dependencyName, dependencyType, dependencyClass,
+                annotations, true);
+    }
+
+    public boolean isReusable() {
+        return reusable;
+    }
+
     public String getDependencyName() {
         return dependencyName;
     }
@@ -101,4 +163,60 @@ public class DependencyDescriptor {
     public int hashCode() {
         return Objects.hash(dependencyName, dependencyType);
     }
+
+    private record QualifierLiteral(String value) implements Qualifier {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Qualifier.class;
+        }
+    }
+
+    private static final class SimpleParameterizedType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type[] typeArguments;
+
+        private SimpleParameterizedType(Class<?> rawType, Type[] typeArguments) {
+            this.rawType = rawType;
+            this.typeArguments = typeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType.getDeclaringClass();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParameterizedType that)) {
+                return false;
+            }
+            return rawType.equals(that.getRawType())
+                    && Objects.equals(getOwnerType(), that.getOwnerType())
+                    && Arrays.equals(typeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(typeArguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return rawType.getName() + Arrays.stream(typeArguments).map(Type::getTypeName)
+                    .collect(Collectors.joining(", ", "<", ">"));
+        }
+    }
 }
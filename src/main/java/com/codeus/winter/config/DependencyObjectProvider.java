@@ -0,0 +1,76 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link ObjectProvider} of a {@link DefaultBeanFactory}, injected into {@code ObjectProvider<T>}
+ * and {@code jakarta.inject.Provider<T>} injection points and returned by {@link BeanFactory#getBeanProvider(Class)}.
+ * <p>
+ * The target bean is picked on the first call, by qualifier or primary flag like for any other injection point,
+ * and its slot is kept until a bean definition is registered. Later calls return the created singleton
+ * or create a new prototype without searching the candidates again. A bean with a pending asynchronous
+ * initialization is returned once the initialization completes, like an injected bean.
+ *
+ * @param <T> the type of the bean
+ */
+final class DependencyObjectProvider<T> implements ObjectProvider<T> {
+
+    private final DefaultBeanFactory beanFactory;
+    private final DependencyDescriptor descriptor;
+    private volatile ResolvedTarget resolvedTarget;
+
+    /**
+     * Creates a provider of the bean a descriptor resolves to.
+     *
+     * @param beanFactory a bean factory to retrieve the bean from.
+     * @param descriptor  a descriptor of the provided bean, e.g. {@code T} of an {@code ObjectProvider<T>} field
+     *                    with the annotations of the field.
+     */
+    DependencyObjectProvider(DefaultBeanFactory beanFactory, DependencyDescriptor descriptor) {
+        this.beanFactory = beanFactory;
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public T getObject() {
+        T bean = getIfAvailable();
+        if (bean == null) {
+            throw beanFactory.beanNotFound("Cannot resolve bean for type='%s', no bean definition available",
+                    descriptor.getDependencyType().getTypeName());
+        }
+        return bean;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getIfAvailable() {
+        BeanSlot slot = resolveTargetSlot();
+        if (slot == null) {
+            return null;
+        }
+
+        Object singleton = slot.getSingleton();
+        Object bean = singleton != null ? singleton : beanFactory.getBean(slot);
+        return (T) beanFactory.awaitAsyncInitialization(slot.getName(), bean);
+    }
+
+    @Nullable
+    private BeanSlot resolveTargetSlot() {
+        long generation = beanFactory.getResolutionGeneration();
+        ResolvedTarget target = resolvedTarget;
+        if (target == null || target.generation() != generation) {
+            target = new ResolvedTarget(generation, beanFactory.findTargetSlot(descriptor));
+            resolvedTarget = target;
+        }
+        return target.slot();
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectProvider[" + descriptor.getDependencyType().getTypeName() + "]";
+    }
+
+    private record ResolvedTarget(long generation, @Nullable BeanSlot slot) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Strategy the bean factory uses to call bean constructors and to inject dependencies into fields and methods.
+ * <p>
+ * Constructors, fields and methods are resolved by the factory and the autowiring post processor,
+ * a strategy only decides how they are invoked.
+ *
+ * @see com.codeus.winter.config.impl.ReflectiveInstantiationStrategy
+ * @see com.codeus.winter.config.impl.MethodHandleInstantiationStrategy
+ */
+public interface InstantiationStrategy {
+
+    /**
+     * Creates a bean by calling the given constructor.
+     *
+     * @param constructor a constructor to call.
+     * @param args        constructor arguments.
+     * @param <T>         the type of the bean.
+     * @return a new bean instance.
+     * @throws BeanFactoryException if the constructor cannot be called or throws an exception.
+     */
+    <T> T instantiate(Constructor<T> constructor, Object... args);
+
+    /**
+     * Assigns a dependency to a field of a bean.
+     *
+     * @param field a field to assign, made accessible by the caller.
+     * @param bean  a bean to inject the dependency into.
+     * @param value a dependency to assign.
+     * @throws BeanFactoryException if the field cannot be assigned.
+     */
+    void inject(Field field, Object bean, @Nullable Object value);
+
+    /**
+     * Injects dependencies by calling a method of a bean.
+     *
+     * @param method a method to call, made accessible by the caller.
+     * @param bean   a bean to inject the dependencies into.
+     * @param args   dependencies to pass to the method.
+     * @throws BeanFactoryException if the method cannot be called or throws an exception.
+     */
+    void invoke(Method method, Object bean, Object... args);
+}
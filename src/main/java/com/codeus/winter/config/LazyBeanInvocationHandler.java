@@ -0,0 +1,49 @@
+package com.codeus.winter.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Backs the JDK dynamic proxy injected in place of a lazy singleton, see {@link BeanDefinition#isLazyInit()}.
+ * <p>
+ * Every method call, including {@code equals}, {@code hashCode} and {@code toString}, is delegated to the bean,
+ * which is created on the first call. The bean is read from its {@link BeanHandle}, so once it is created
+ * a call costs a field read on top of the reflective invocation. A call waits for a pending asynchronous
+ * initialization of the bean, like an eager injection of it.
+ */
+final class LazyBeanInvocationHandler implements InvocationHandler {
+
+    private final BeanHandle<?> beanHandle;
+
+    private LazyBeanInvocationHandler(BeanHandle<?> beanHandle) {
+        this.beanHandle = beanHandle;
+    }
+
+    /**
+     * Creates a proxy of the given interface that delegates to the bean of the handle.
+     *
+     * @param beanInterface a public interface implemented by the bean.
+     * @param beanHandle    a handle of the bean.
+     * @return the proxy.
+     */
+    static Object createProxy(Class<?> beanInterface, BeanHandle<?> beanHandle) {
+        return Proxy.newProxyInstance(beanInterface.getClassLoader(), new Class<?>[]{beanInterface},
+                new LazyBeanInvocationHandler(beanHandle));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(beanHandle.getInitialized(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LazyBeanInvocationHandler[" + beanHandle.getBeanName() + "]";
+    }
+}
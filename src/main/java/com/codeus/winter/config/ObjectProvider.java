@@ -0,0 +1,56 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.exception.BeanNotFoundException;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Provider;
+
+import java.util.Optional;
+
+/**
+ * A provider of the bean of a type, see {@link BeanFactory#getBeanProvider(Class)}.
+ * <p>
+ * Providers can also be injected into {@code ObjectProvider<T>} and {@code Provider<T>} fields and parameters.
+ * The bean is retrieved on every call, so a provider can be obtained before the bean is registered,
+ * a singleton can be created on first use, a prototype is created anew on every call,
+ * and a missing bean can be probed for without catching {@link BeanNotFoundException}.
+ *
+ * @param <T> the type of the bean
+ */
+public interface ObjectProvider<T> extends Provider<T> {
+
+    /**
+     * Returns the bean, creating it if it is a prototype or a singleton that wasn't created yet.
+     *
+     * @return the bean instance.
+     * @throws BeanNotFoundException if there is no bean of the type.
+     */
+    T getObject() throws BeanNotFoundException;
+
+    /**
+     * Returns the bean, same as {@link #getObject()}.
+     *
+     * @return the bean instance.
+     * @throws BeanNotFoundException if there is no bean of the type.
+     */
+    @Override
+    default T get() {
+        return getObject();
+    }
+
+    /**
+     * Returns the bean if there is one.
+     *
+     * @return the bean instance, {@code null} - if there is no bean of the type.
+     */
+    @Nullable
+    T getIfAvailable();
+
+    /**
+     * Returns the bean if there is one.
+     *
+     * @return the bean instance, or an empty optional if there is no bean of the type.
+     */
+    default Optional<T> findObject() {
+        return Optional.ofNullable(getIfAvailable());
+    }
+}
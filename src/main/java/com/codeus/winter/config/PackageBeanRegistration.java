@@ -2,20 +2,26 @@ package com.codeus.winter.config;
 
 import com.codeus.winter.annotation.Autowired;
 import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.EventListener;
+import com.codeus.winter.annotation.Lazy;
 import com.codeus.winter.annotation.PostConstruct;
 import com.codeus.winter.annotation.PreDestroy;
 import com.codeus.winter.annotation.Primary;
 import com.codeus.winter.annotation.Scope;
 import com.codeus.winter.config.impl.BeanDefinitionImpl;
-import com.codeus.winter.config.impl.PackageScannerImpl;
+import com.codeus.winter.config.impl.ComponentIndexPackageScanner;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+import jakarta.annotation.Nullable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ObjectUtils;
@@ -23,19 +29,25 @@ import org.apache.commons.lang3.ObjectUtils;
 /**
  * Responsible for scanning a package for classes annotated with {@link Component},
  * and registering their {@link BeanDefinition}s in the provided {@link BeanDefinitionRegistry}.
+ * Components declaring {@link EventListener} methods are remembered, see {@link #getEventListenerBeans()}.
  */
 public class PackageBeanRegistration {
 
+    private final ComponentIndex componentIndex;
     private final PackageScanner packageScanner;
     private final BeanDefinitionRegistry registry;
+    private final Map<String, Class<?>> eventListenerBeans = new LinkedHashMap<>();
 
     /**
      * Constructor to initialize the package scanner and the registry.
+     * Components are looked up in the build-time {@link ComponentIndex} if one is present on the classpath.
      *
      * @param registry       the {@link BeanDefinitionRegistry} to register bean definitions
      */
     public PackageBeanRegistration(BeanDefinitionRegistry registry) {
-        this.packageScanner = new PackageScannerImpl();
+        ClassLoader classLoader = PackageBeanRegistration.class.getClassLoader();
+        this.componentIndex = ComponentIndex.load(classLoader);
+        this.packageScanner = new ComponentIndexPackageScanner(componentIndex, classLoader);
         this.registry = registry;
     }
 
@@ -56,10 +68,23 @@ public class PackageBeanRegistration {
             String beanName = getBeanName(clazz);
 
             BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
-            processCommonDefinitionAnnotations(clazz, beanDefinition);
+            ComponentIndex.Entry indexedComponent = componentIndex != null
+                ? componentIndex.getComponent(clazz.getName())
+                : null;
+            boolean eventListener;
+            if (indexedComponent != null) {
+                processIndexedDefinition(clazz, indexedComponent, beanDefinition);
+                eventListener = indexedComponent.eventListener();
+            } else {
+                processCommonDefinitionAnnotations(clazz, beanDefinition);
+                eventListener = hasEventListenerMethods(clazz);
+            }
 
             if (!registry.containsBeanDefinition(beanName)) {
                     registry.registerBeanDefinition(beanName, beanDefinition);
+                    if (eventListener) {
+                        eventListenerBeans.put(beanName, clazz);
+                    }
             } else {
                 throw new NotUniqueBeanDefinitionException(
                     String.format("A bean with the name '%s' is already defined in the registry.", beanName));
@@ -67,24 +92,73 @@ public class PackageBeanRegistration {
         }
     }
 
+    /**
+     * Returns the registered components that declare {@link EventListener} methods.
+     *
+     * @return an unmodifiable map of the component classes by bean name, in registration order
+     */
+    public Map<String, Class<?>> getEventListenerBeans() {
+        return Collections.unmodifiableMap(eventListenerBeans);
+    }
+
+    private static boolean hasEventListenerMethods(Class<?> clazz) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(EventListener.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void notEmpty(Object[] array) {
         if (ObjectUtils.isEmpty(array)) {
             throw new IllegalArgumentException("At least one base package must be specified");
         }
     }
 
+    private void processIndexedDefinition(Class<?> clazz,
+                                          ComponentIndex.Entry indexedComponent,
+                                          BeanDefinition beanDefinition) {
+        beanDefinition.setBeanClass(clazz);
+        beanDefinition.setInjectCandidate(true);
+        beanDefinition.setPrimary(indexedComponent.primary());
+        beanDefinition.setLazyInit(indexedComponent.lazy());
+
+        if (indexedComponent.scope() != null) {
+            beanDefinition.setScope(resolveScope(indexedComponent.scope()));
+        }
+
+        // a bean definition holds a single lifecycle method name, the one invoked first
+        beanDefinition.setInitMethodName(firstOrNull(indexedComponent.initMethodNames()));
+        beanDefinition.setDestroyMethodName(firstOrNull(indexedComponent.destroyMethodNames()));
+        beanDefinition.setDependsOn(indexedComponent.dependsOn().toArray(String[]::new));
+    }
+
+    @Nullable
+    private static String firstOrNull(List<String> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private String resolveScope(String value) {
+        return value.toLowerCase().equals("prototype")
+            ? BeanDefinition.SCOPE_PROTOTYPE
+            : BeanDefinition.SCOPE_SINGLETON;
+    }
+
     private void processCommonDefinitionAnnotations(Class<?> clazz, BeanDefinition beanDefinition) {
-        beanDefinition.setBeanClassName(clazz.getName());
+        beanDefinition.setBeanClass(clazz);
         beanDefinition.setInjectCandidate(true);
 
         if (clazz.isAnnotationPresent(Primary.class)) {
             beanDefinition.setPrimary(true);
         }
 
+        if (clazz.isAnnotationPresent(Lazy.class)) {
+            beanDefinition.setLazyInit(true);
+        }
+
         if (clazz.isAnnotationPresent(Scope.class)) {
-            String value = clazz.getAnnotation(Scope.class).value().toLowerCase();
-            String scope = value.equals("prototype") ? BeanDefinition.SCOPE_PROTOTYPE : BeanDefinition.SCOPE_SINGLETON;
-            beanDefinition.setScope(scope);
+            beanDefinition.setScope(resolveScope(clazz.getAnnotation(Scope.class).value()));
         }
 
         List<String> dependencies = new ArrayList<>();
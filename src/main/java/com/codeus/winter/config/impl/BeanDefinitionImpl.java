@@ -1,6 +1,7 @@
 package com.codeus.winter.config.impl;
 
 import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.util.ClassUtils;
 import jakarta.annotation.Nullable;
 
 import java.util.ArrayList;
@@ -17,11 +18,13 @@ import java.util.List;
  */
 public class BeanDefinitionImpl implements BeanDefinition {
 
-    private String beanClassName;
+    private volatile String beanClassName;
+    private volatile Class<?> beanClass;
     private String scope = SCOPE_SINGLETON; // Default to singleton
 
     private boolean injectCandidate = true;
     private boolean primary = false;
+    private boolean lazyInit = false;
     private String factoryBeanName;
     private String factoryMethodName;
     private String initMethodName;
@@ -35,6 +38,10 @@ public class BeanDefinitionImpl implements BeanDefinition {
      */
     @Override
     public void setBeanClassName(@Nullable String beanClassName) {
+        Class<?> resolvedClass = this.beanClass;
+        if (resolvedClass != null && !resolvedClass.getName().equals(beanClassName)) {
+            this.beanClass = null;
+        }
         this.beanClassName = beanClassName;
     }
     /**
@@ -47,6 +54,38 @@ public class BeanDefinitionImpl implements BeanDefinition {
     public String getBeanClassName() {
         return this.beanClassName;
     }
+    /**
+     * Set the class of the bean that this definition describes, together with its class name.
+     *
+     * @param beanClass the class of the bean, or {@code null} if not set.
+     */
+    @Override
+    public void setBeanClass(@Nullable Class<?> beanClass) {
+        this.beanClassName = beanClass != null ? beanClass.getName() : null;
+        this.beanClass = beanClass;
+    }
+    /**
+     * Get the class of the bean that this definition describes, resolving and caching it on the first call.
+     *
+     * @param classLoader the class loader to resolve the bean class name against.
+     * @return the class of the bean, or {@code null} if no class name is set.
+     */
+    @Nullable
+    @Override
+    public Class<?> resolveBeanClass(ClassLoader classLoader) {
+        Class<?> resolvedClass = this.beanClass;
+        String className = this.beanClassName;
+        if (resolvedClass != null && resolvedClass.getName().equals(className)) {
+            return resolvedClass;
+        }
+        if (className == null) {
+            return null;
+        }
+
+        resolvedClass = ClassUtils.resolveClass(className, classLoader);
+        this.beanClass = resolvedClass;
+        return resolvedClass;
+    }
     /**
      * Set the scope of the bean (e.g., singleton or prototype).
      *
@@ -144,6 +183,24 @@ public class BeanDefinitionImpl implements BeanDefinition {
     public boolean isPrimary() {
         return this.primary;
     }
+    /**
+     * Specify whether this bean is created on first retrieval instead of eagerly.
+     *
+     * @param lazyInit {@code true} if the bean is lazy; {@code false} otherwise.
+     */
+    @Override
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+    /**
+     * Check whether this bean is created on first retrieval instead of eagerly.
+     *
+     * @return {@code true} if the bean is lazy; {@code false} otherwise.
+     */
+    @Override
+    public boolean isLazyInit() {
+        return this.lazyInit;
+    }
     /**
      * Set the name of the factory bean, if any, that creates this bean.
      *
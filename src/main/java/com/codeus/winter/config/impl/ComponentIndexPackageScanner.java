@@ -0,0 +1,73 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.ComponentIndex;
+import com.codeus.winter.config.PackageScanner;
+import com.codeus.winter.util.ClassUtils;
+import jakarta.annotation.Nullable;
+import org.reflections.util.ClasspathHelper;
+
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link PackageScanner} that looks up component classes in the build-time {@link ComponentIndex}.
+ * <p>
+ * An index only covers the classpath root it was generated into, e.g. a jar or a classes directory.
+ * The roots containing the requested package without an index of their own, e.g. classes compiled without
+ * the annotation processor, are scanned with {@link PackageScannerImpl}. Without any index, the whole
+ * classpath is scanned.
+ */
+public class ComponentIndexPackageScanner implements PackageScanner {
+
+    private final ComponentIndex componentIndex;
+    private final ClassLoader classLoader;
+    private final Set<String> indexedRoots;
+    private final PackageScannerImpl fallbackScanner;
+
+    /**
+     * Creates a scanner backed by the given component index.
+     *
+     * @param componentIndex the component index, or {@code null} to always scan the classpath.
+     * @param classLoader    a class loader to resolve indexed classes and to find the classpath roots with.
+     */
+    public ComponentIndexPackageScanner(@Nullable ComponentIndex componentIndex, ClassLoader classLoader) {
+        this.componentIndex = componentIndex;
+        this.classLoader = classLoader;
+        this.indexedRoots = componentIndex != null
+                ? toExternalForms(ClasspathHelper.forResource(ComponentIndex.COMPONENTS_RESOURCE_LOCATION, classLoader))
+                : Set.of();
+        this.fallbackScanner = new PackageScannerImpl();
+    }
+
+    @Override
+    public final Set<Class<?>> findClassesWithAnnotations(String packageName,
+                                                          Set<Class<? extends Annotation>> annotations) {
+        if (componentIndex == null) {
+            return fallbackScanner.findClassesWithAnnotations(packageName, annotations);
+        }
+
+        Set<Class<?>> annotatedClasses = new HashSet<>();
+        for (ComponentIndex.Entry component : componentIndex.getComponents(packageName, annotations)) {
+            annotatedClasses.add(ClassUtils.resolveClass(component.className(), classLoader));
+        }
+
+        List<URL> unindexedRoots = ClasspathHelper.forPackage(packageName, classLoader).stream()
+                .filter(root -> !indexedRoots.contains(root.toExternalForm()))
+                .toList();
+        if (!unindexedRoots.isEmpty()) {
+            annotatedClasses.addAll(
+                    fallbackScanner.findClassesWithAnnotations(packageName, annotations, unindexedRoots, classLoader));
+        }
+
+        return annotatedClasses;
+    }
+
+    private static Set<String> toExternalForms(Iterable<URL> urls) {
+        Set<String> externalForms = new HashSet<>();
+        urls.forEach(url -> externalForms.add(url.toExternalForm()));
+        return Set.copyOf(externalForms);
+    }
+}
@@ -0,0 +1,164 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.InstantiationStrategy;
+import com.codeus.winter.exception.BeanFactoryException;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link InstantiationStrategy} that binds constructors, fields and methods to {@link MethodHandle}s
+ * on first use and caches them per class.
+ * <p>
+ * Default constructors are additionally bound to a {@link Supplier} generated with {@link LambdaMetafactory},
+ * so creating a bean without dependencies costs about as much as a plain {@code new}.
+ * Handles are kept in a {@link ClassValue} of the declaring class and don't prevent the class from being unloaded.
+ * As with {@link ReflectiveInstantiationStrategy}, exceptions thrown by the invoked code are wrapped
+ * into a {@link BeanFactoryException}.
+ */
+public class MethodHandleInstantiationStrategy implements InstantiationStrategy {
+
+    private static final ClassValue<Map<Member, Invoker>> INVOKERS = new ClassValue<>() {
+        @Override
+        protected Map<Member, Invoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Override
+    public <T> T instantiate(Constructor<T> constructor, Object... args) {
+        Invoker invoker = getInvoker(constructor);
+        try {
+            return constructor.getDeclaringClass().cast(invoker.invoke(null, args));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BeanFactoryException("Unable to create bean instance due to: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void inject(Field field, Object bean, @Nullable Object value) {
+        Invoker invoker = getInvoker(field);
+        try {
+            invoker.invoke(bean, new Object[]{value});
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BeanFactoryException("Unable to inject field " + field.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void invoke(Method method, Object bean, Object... args) {
+        Invoker invoker = getInvoker(method);
+        try {
+            invoker.invoke(bean, args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BeanFactoryException("Unable to invoke method " + method.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Invoker getInvoker(Member member) {
+        return INVOKERS.get(member.getDeclaringClass()).computeIfAbsent(member, this::bind);
+    }
+
+    private Invoker bind(Member member) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(member.getDeclaringClass(),
+                    MethodHandles.lookup());
+            return switch (member) {
+                case Constructor<?> constructor -> bindConstructor(lookup, constructor);
+                case Field field -> bindSetter(lookup, field);
+                case Method method -> bindMethod(lookup, method);
+                default -> throw new IllegalArgumentException("Unsupported member: " + member);
+            };
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new BeanFactoryException("Unable to bind " + member + " to a method handle: " + e.getMessage(), e);
+        }
+    }
+
+    private static Invoker bindConstructor(MethodHandles.Lookup lookup, Constructor<?> constructor)
+            throws IllegalAccessException {
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+        int parameterCount = constructor.getParameterCount();
+        if (parameterCount == 0) {
+            Supplier<?> supplier = bindSupplier(lookup, handle);
+            if (supplier != null) {
+                return (bean, args) -> supplier.get();
+            }
+        }
+
+        MethodHandle spreader = handle.asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+        return (bean, args) -> (Object) spreader.invokeExact(args);
+    }
+
+    /**
+     * Generates a {@link Supplier} calling the given default constructor.
+     *
+     * @return the supplier, or {@code null} if the lookup has no full privilege access to the class,
+     * e.g. because the class is defined by another class loader.
+     */
+    @Nullable
+    private static Supplier<?> bindSupplier(MethodHandles.Lookup lookup, MethodHandle constructor) {
+        if (!lookup.hasFullPrivilegeAccess()) {
+            return null;
+        }
+        try {
+            MethodHandle factory = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                    constructor, constructor.type()).getTarget();
+            return (Supplier<?>) factory.invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Invoker bindSetter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+        MethodHandle setter = lookup.unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+
+        MethodHandle spreader = setter.asType(MethodType.methodType(void.class, Object.class, Object.class))
+                .asSpreader(Object[].class, 1);
+        return (bean, args) -> {
+            spreader.invokeExact(bean, args);
+            return null;
+        };
+    }
+
+    private static Invoker bindMethod(MethodHandles.Lookup lookup, Method method) throws IllegalAccessException {
+        MethodHandle handle = lookup.unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        int parameterCount = method.getParameterCount();
+        MethodHandle spreader = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        return (bean, args) -> (Object) spreader.invokeExact(bean, args);
+    }
+
+    /**
+     * A bound constructor, field setter or method.
+     */
+    @FunctionalInterface
+    private interface Invoker {
+        Object invoke(@Nullable Object bean, Object[] args) throws Throwable;
+    }
+}
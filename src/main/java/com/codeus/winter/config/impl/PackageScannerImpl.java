@@ -2,18 +2,44 @@ package com.codeus.winter.config.impl;
 
 import com.codeus.winter.config.PackageScanner;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
 
 public class PackageScannerImpl implements PackageScanner {
 
     @Override
     public final Set<Class<?>> findClassesWithAnnotations(String packageName,
                                                           Set<Class<? extends Annotation>> annotations) {
-        Set<Class<?>> annotatedClasses = new HashSet<>();
+        return findClassesWithAnnotations(new Reflections(packageName), annotations);
+    }
+
+    /**
+     * Scan the specified package in the given classpath roots only.
+     *
+     * @param packageName the package to scan
+     * @param annotations the annotations to look for
+     * @param roots       the classpath roots to scan, e.g. jars or classes directories
+     * @param classLoader the class loader to load the found classes with
+     * @return a set of classes annotated with any of the specified annotations
+     */
+    public final Set<Class<?>> findClassesWithAnnotations(String packageName,
+                                                          Set<Class<? extends Annotation>> annotations,
+                                                          Collection<URL> roots,
+                                                          ClassLoader classLoader) {
+        return findClassesWithAnnotations(new Reflections(new ConfigurationBuilder()
+                .setUrls(roots)
+                .addClassLoaders(classLoader)
+                .filterInputsBy(new FilterBuilder().includePackage(packageName))), annotations);
+    }
 
-        Reflections reflections = new Reflections(packageName);
+    private static Set<Class<?>> findClassesWithAnnotations(Reflections reflections,
+                                                            Set<Class<? extends Annotation>> annotations) {
+        Set<Class<?>> annotatedClasses = new HashSet<>();
 
         for (Class<? extends Annotation> annotation : annotations) {
             annotatedClasses.addAll(reflections.getTypesAnnotatedWith(annotation));
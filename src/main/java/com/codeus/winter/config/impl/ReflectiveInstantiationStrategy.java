@@ -0,0 +1,43 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.InstantiationStrategy;
+import com.codeus.winter.exception.BeanFactoryException;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link InstantiationStrategy} that uses core reflection on every call. This is the default strategy.
+ */
+public class ReflectiveInstantiationStrategy implements InstantiationStrategy {
+
+    @Override
+    public <T> T instantiate(Constructor<T> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+            throw new BeanFactoryException("Unable to create bean instance due to: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void inject(Field field, Object bean, @Nullable Object value) {
+        try {
+            field.set(bean, value);
+        } catch (IllegalAccessException e) {
+            throw new BeanFactoryException("Unable to inject field " + field.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void invoke(Method method, Object bean, Object... args) {
+        try {
+            method.invoke(bean, args);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            throw new BeanFactoryException("Unable to invoke method " + method.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -4,15 +4,33 @@ import com.codeus.winter.annotation.AutowiredAnnotationBeanPostProcessor;
 import com.codeus.winter.annotation.InitDestroyAnnotationBeanPostProcessor;
 import com.codeus.winter.config.BeanDefinition;
 import com.codeus.winter.config.BeanDefinitionRegistry;
+import com.codeus.winter.config.BeanInstanceSupplier;
 import com.codeus.winter.config.BeanFactory;
+import com.codeus.winter.config.BeanHandle;
 import com.codeus.winter.config.BeanPostProcessor;
 import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.InstantiationStrategy;
+import com.codeus.winter.config.ObjectProvider;
 import com.codeus.winter.config.PackageBeanRegistration;
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
 import com.codeus.winter.config.impl.BeanDefinitionRegistryImpl;
 import com.codeus.winter.exception.BeanNotFoundException;
+import com.codeus.winter.metrics.ContextRefreshEvent;
+import com.codeus.winter.metrics.StartupRecorder;
+import com.codeus.winter.metrics.StartupStep;
 import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Standalone application context, accepting component classes as input.
  * <p>
@@ -21,7 +39,15 @@ import org.apache.commons.lang3.ObjectUtils;
  * Allows registering classes one by one using {@code register(Class...)}
  * as well as classpath scanning using {@code scan(String...)}.
  */
-public class AnnotationApplicationContext implements ApplicationContext, BeanFactory {
+public class AnnotationApplicationContext implements ApplicationContext, BeanFactory, ApplicationEventPublisher,
+        AutoCloseable {
+    /**
+     * Name of the {@link ApplicationEventPublisher} bean of the context.
+     */
+    public static final String EVENT_PUBLISHER_BEAN_NAME = "applicationEventPublisher";
+
+    private static final Duration DEFAULT_DESTROY_TIMEOUT = Duration.ofSeconds(5);
+
     private final long startupMillis = System.currentTimeMillis();
     private final String id = ObjectUtils.identityToString(this);
     private String displayName = ObjectUtils.identityToString(this);
@@ -29,6 +55,18 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
     private final PackageBeanRegistration packageBeanRegistration;
     private final DefaultBeanFactory beanFactory;
     private final BeanDefinitionRegistry beanDefinitionRegistry;
+    private final StartupRecorder startupRecorder;
+    private AutowiredAnnotationBeanPostProcessor autowiredPostProcessor;
+    private Executor bootstrapExecutor;
+    private Duration destroyTimeout = DEFAULT_DESTROY_TIMEOUT;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Thread shutdownHook;
+    private final ExecutorService asyncInitExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("winter-async-init-", 0).factory());
+    private final ExecutorService eventExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("winter-event-", 0).factory());
+    private final SimpleApplicationEventMulticaster eventMulticaster =
+            new SimpleApplicationEventMulticaster(eventExecutor);
 
     /**
      * Constructs a new {@code AnnotationApplicationContext} for the specified base packages.
@@ -36,13 +74,32 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
      * @param basePackages the base packages to scan for component classes
      */
     public AnnotationApplicationContext(String... basePackages) {
+        this(StartupRecorder.NO_OP, basePackages);
+    }
+
+    /**
+     * Constructs a new {@code AnnotationApplicationContext} for the specified base packages,
+     * recording the startup steps of the context and its beans.
+     *
+     * @param startupRecorder the recorder of the startup steps,
+     *                        e.g. a {@link com.codeus.winter.metrics.BufferingStartupRecorder}
+     * @param basePackages    the base packages to scan for component classes
+     */
+    public AnnotationApplicationContext(StartupRecorder startupRecorder, String... basePackages) {
         System.out.println(WINTER_BANNER);
+        this.startupRecorder = startupRecorder;
         this.beanDefinitionRegistry = new BeanDefinitionRegistryImpl();
         this.packageBeanRegistration = new PackageBeanRegistration(beanDefinitionRegistry);
-        packageBeanRegistration.registerBeans(basePackages);
+        try (StartupStep step = startupRecorder.start("winter.context.scan")) {
+            step.tag("basePackages", Arrays.toString(basePackages));
+            packageBeanRegistration.registerBeans(basePackages);
+        }
 
         this.beanFactory = new DefaultBeanFactory(beanDefinitionRegistry.getRegisteredBeanDefinitions());
+        beanFactory.setStartupRecorder(startupRecorder);
+        registerBeanInstanceSuppliers(this.beanFactory);
         configureSystemBeanPostProcessors(this.beanFactory);
+        registerEventMulticaster();
     }
 
     @Override
@@ -76,6 +133,177 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
         return startupMillis;
     }
 
+    /**
+     * Set an executor to create singletons in parallel on during {@link #refresh()}.
+     * <p>Default is {@code null}, beans are then created one by one on the calling thread.</p>
+     *
+     * @param bootstrapExecutor the executor, e.g. a {@link java.util.concurrent.ForkJoinPool}
+     *                          or a virtual thread per task executor
+     */
+    public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+        this.bootstrapExecutor = bootstrapExecutor;
+    }
+
+    /**
+     * Set the strategy used to create beans and inject their dependencies.
+     * <p>Default is a {@link com.codeus.winter.config.impl.ReflectiveInstantiationStrategy}.</p>
+     *
+     * @param instantiationStrategy the strategy, e.g. a
+     *                              {@link com.codeus.winter.config.impl.MethodHandleInstantiationStrategy}
+     */
+    public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        beanFactory.setInstantiationStrategy(instantiationStrategy);
+        autowiredPostProcessor.setInstantiationStrategy(instantiationStrategy);
+    }
+
+    /**
+     * Set whether failed retrievals of beans by name or type throw exceptions with a stack trace,
+     * see {@link DefaultBeanFactory#setLookupStackTraces(boolean)}.
+     * <p>Default is {@code true}.</p>
+     *
+     * @param lookupStackTraces {@code false} - to throw exceptions without a stack trace
+     */
+    public void setLookupStackTraces(boolean lookupStackTraces) {
+        beanFactory.setLookupStackTraces(lookupStackTraces);
+    }
+
+    /**
+     * Eagerly creates all beans of this context instead of creating them on first retrieval.
+     * Independent beans are created in parallel when a bootstrap executor is set.
+     * <p>The {@link com.codeus.winter.annotation.AsyncInit} methods of the beans run in the background meanwhile,
+     * the refresh ends once all of them completed.</p>
+     *
+     * @throws com.codeus.winter.exception.BeanFactoryException if a bean cannot be created
+     *                                                          or its asynchronous initialization failed
+     * @see #setBootstrapExecutor(Executor)
+     */
+    public void refresh() {
+        ContextRefreshEvent event = new ContextRefreshEvent();
+        event.begin();
+        try (StartupStep step = startupRecorder.start("winter.context.refresh")) {
+            if (bootstrapExecutor != null) {
+                beanFactory.initializeBeans(bootstrapExecutor);
+            } else {
+                beanFactory.initializeBeans();
+            }
+            try (StartupStep awaitStep = startupRecorder.start("winter.beans.awaitAsyncInit")) {
+                beanFactory.awaitAsyncInitializations();
+            }
+        } finally {
+            if (event.shouldCommit()) {
+                event.setContextId(id);
+                event.setDisplayName(displayName);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Freezes the bean factory of this context, see {@link DefaultBeanFactory#freeze()}.
+     * Lookups are then served from an immutable snapshot, and registering beans fails.
+     * <p>Call it after {@link #refresh()}, once all beans are registered. Singletons created later,
+     * e.g. lazy ones, are still found, as the snapshot shares the bean slots of the factory.</p>
+     */
+    public void freeze() {
+        beanFactory.freeze();
+    }
+
+    /**
+     * Checks if this context is frozen.
+     *
+     * @return {@code true} - if {@link #freeze()} was called, {@code false} - otherwise.
+     */
+    public boolean isFrozen() {
+        return beanFactory.isFrozen();
+    }
+
+    /**
+     * Set the maximum time to wait for the destruction callbacks of a single bean on {@link #close()}.
+     * <p>Default is 5 seconds.</p>
+     *
+     * @param destroyTimeout the timeout per bean
+     */
+    public void setDestroyTimeout(Duration destroyTimeout) {
+        this.destroyTimeout = destroyTimeout;
+    }
+
+    /**
+     * Registers a JVM shutdown hook that closes this context when the JVM shuts down,
+     * unless it was closed before. Registering the hook twice has no effect.
+     */
+    public synchronized void registerShutdownHook() {
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(this::doClose, "winter-shutdown-hook");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * Closes this context: delivers the pending event batches, destroys its singletons,
+     * see {@link DefaultBeanFactory#destroySingletons(Duration)}, and removes the shutdown hook if one is registered.
+     * Closing a closed context has no effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // the JVM is already shutting down, the hook closes the context as well
+                }
+                shutdownHook = null;
+            }
+        }
+        doClose();
+    }
+
+    private void doClose() {
+        if (closed.compareAndSet(false, true)) {
+            asyncInitExecutor.shutdownNow();
+            try {
+                eventMulticaster.close();
+            } finally {
+                awaitAsyncEventListeners();
+                beanFactory.destroySingletons(destroyTimeout);
+            }
+        }
+    }
+
+    /**
+     * Waits up to the destroy timeout for the asynchronous event listeners that are still running,
+     * the listeners that don't finish in time are interrupted.
+     */
+    private void awaitAsyncEventListeners() {
+        eventExecutor.shutdown();
+        try {
+            if (!eventExecutor.awaitTermination(destroyTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                eventExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            eventExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if this context is closed.
+     *
+     * @return {@code true} - if {@link #close()} was called or the shutdown hook ran, {@code false} - otherwise.
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Returns the recorder of the startup steps of this context.
+     *
+     * @return the startup recorder, {@link StartupRecorder#NO_OP} unless one was passed on construction.
+     */
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+
     @Override
     public void registerBeanDefinition(String name, BeanDefinition beanDefinition) {
         beanFactory.registerBeanDefinition(name, beanDefinition);
@@ -99,6 +327,26 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
         return beanFactory.getBean(requiredType);
     }
 
+    @Override
+    public final <T> BeanHandle<T> getBeanHandle(String name, Class<T> requiredType) throws BeanNotFoundException {
+        return beanFactory.getBeanHandle(name, requiredType);
+    }
+
+    @Override
+    public final Optional<Object> findBean(String name) {
+        return beanFactory.findBean(name);
+    }
+
+    @Override
+    public final <T> Optional<T> findBean(Class<T> requiredType) {
+        return beanFactory.findBean(requiredType);
+    }
+
+    @Override
+    public final <T> ObjectProvider<T> getBeanProvider(Class<T> requiredType) {
+        return beanFactory.getBeanProvider(requiredType);
+    }
+
     @Override
     public final <T> T createBean(Class<T> beanClass) throws BeanNotFoundException {
         return beanFactory.createBean(beanClass);
@@ -114,11 +362,41 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
         beanFactory.addBeanPostProcessor(postProcessor);
     }
 
+    @Override
+    public void publishEvent(Object event) {
+        eventMulticaster.publishEvent(event);
+    }
+
+    /**
+     * Registers the event multicaster as the {@link ApplicationEventPublisher} bean and adds the listener methods
+     * of the components found by the package scan.
+     */
+    private void registerEventMulticaster() {
+        BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+        beanDefinition.setBeanClass(SimpleApplicationEventMulticaster.class);
+        beanFactory.registerBean(EVENT_PUBLISHER_BEAN_NAME, beanDefinition, eventMulticaster);
+        packageBeanRegistration.getEventListenerBeans().forEach((beanName, beanClass) ->
+                eventMulticaster.addListeners(beanFactory.getBeanHandle(beanName, Object.class), beanClass));
+    }
+
+    /**
+     * Registers the ahead-of-time generated {@link BeanInstanceSupplier}s found on the classpath.
+     */
+    private void registerBeanInstanceSuppliers(DefaultBeanFactory beanFactory) {
+        ClassLoader classLoader = AnnotationApplicationContext.class.getClassLoader();
+        ServiceLoader.load(BeanInstanceSupplier.class, classLoader)
+                .forEach(beanFactory::registerBeanInstanceSupplier);
+    }
+
     private void configureSystemBeanPostProcessors(DefaultBeanFactory beanFactory) {
-        this.beanFactory.addBeanPostProcessor(new InitDestroyAnnotationBeanPostProcessor());
+        InitDestroyAnnotationBeanPostProcessor initDestroyPostProcessor = new InitDestroyAnnotationBeanPostProcessor();
+        initDestroyPostProcessor.setBeanFactory(beanFactory);
+        initDestroyPostProcessor.setAsyncInitExecutor(asyncInitExecutor);
+        this.beanFactory.addBeanPostProcessor(initDestroyPostProcessor);
 
-        AutowiredAnnotationBeanPostProcessor autowiredPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+        this.autowiredPostProcessor = new AutowiredAnnotationBeanPostProcessor();
         autowiredPostProcessor.setBeanFactory(beanFactory);
+        autowiredPostProcessor.setInstantiationStrategy(beanFactory.getInstantiationStrategy());
         this.beanFactory.addBeanPostProcessor(autowiredPostProcessor);
     }
 
@@ -0,0 +1,18 @@
+package com.codeus.winter.context;
+
+/**
+ * Interface that encapsulates event publication functionality.
+ * The context registers an implementation as a bean, so components can get it injected.
+ */
+@FunctionalInterface
+public interface ApplicationEventPublisher {
+
+    /**
+     * Notify all listeners of the given event, see {@link com.codeus.winter.annotation.EventListener}.
+     * Synchronous listeners are invoked on the calling thread in the order they were registered,
+     * an exception thrown by one of them is propagated and the remaining listeners are skipped.
+     *
+     * @param event the event to publish, e.g. a domain event record
+     */
+    void publishEvent(Object event);
+}
@@ -0,0 +1,74 @@
+package com.codeus.winter.context;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the events of an asynchronous listener on an executor.
+ * <p>
+ * The delivery is a task of its own, built once per listener: publishers append events to a lock-free queue,
+ * only the publisher that finds the task idle submits it. The task delivers the queued events one at a time
+ * and in publishing order until the queue is empty, so a burst of events costs a single executor task.
+ * An exception of the listener doesn't stop the delivery of the following events, it is passed
+ * to the uncaught exception handler of the delivering thread.
+ */
+final class AsyncEventDelivery implements Runnable {
+
+    private final Consumer<Object> listener;
+    private final Executor executor;
+    private final Queue<Object> events = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean submitted = new AtomicBoolean();
+
+    /**
+     * Creates a delivery.
+     *
+     * @param listener the listener to deliver events to.
+     * @param executor an executor to deliver events on.
+     */
+    AsyncEventDelivery(Consumer<Object> listener, Executor executor) {
+        this.listener = listener;
+        this.executor = executor;
+    }
+
+    /**
+     * Queues an event and submits the delivery unless it is already submitted.
+     *
+     * @param event an event.
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the delivery,
+     *                                                         the event is then delivered with the next one.
+     */
+    void add(Object event) {
+        events.offer(event);
+        submit();
+    }
+
+    @Override
+    public void run() {
+        do {
+            for (Object event = events.poll(); event != null; event = events.poll()) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException | Error e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            submitted.set(false);
+            // an event queued after the last poll found the task still submitted and relies on this check
+        } while (!events.isEmpty() && submitted.compareAndSet(false, true));
+    }
+
+    private void submit() {
+        if (submitted.compareAndSet(false, true)) {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                submitted.set(false);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.codeus.winter.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates the events of a batching listener and delivers them as a list once the batch is full
+ * or the time window since the first event of the batch has passed, whichever comes first.
+ * <p>
+ * Publishers append events to a lock-free queue and count them, only the publisher completing a batch
+ * or starting a new one submits a task. Batches are delivered on the executor, one at a time and in
+ * publishing order. The lock is only taken by the flushing threads.
+ */
+final class EventBatch {
+
+    private final Consumer<List<Object>> listener;
+    private final int batchSize;
+    private final long windowNanos;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Queue<Object> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Runnable fullBatchFlush = () -> flush(false);
+    private final Runnable pendingFlush = () -> flush(true);
+    private final Runnable windowFlush = () -> submit(pendingFlush);
+    private volatile boolean closed;
+
+    /**
+     * Creates a batch.
+     *
+     * @param listener    the listener to deliver batches to.
+     * @param batchSize   the maximum number of events of a batch.
+     * @param windowNanos the maximum time between the first event of a batch and its delivery.
+     * @param executor    an executor to deliver batches on.
+     * @param scheduler   a scheduler to start the time windows on.
+     */
+    EventBatch(Consumer<List<Object>> listener, int batchSize, long windowNanos, Executor executor,
+               ScheduledExecutorService scheduler) {
+        this.listener = listener;
+        this.batchSize = batchSize;
+        this.windowNanos = windowNanos;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Adds an event to the current batch. Once the batch is closed, the event is delivered right away
+     * on the calling thread.
+     *
+     * @param event an event.
+     */
+    void add(Object event) {
+        events.offer(event);
+        int pending = pendingCount.incrementAndGet();
+        if (closed) {
+            flush(true);
+        } else if (pending == batchSize) {
+            submit(fullBatchFlush);
+        } else if (pending == 1) {
+            try {
+                scheduler.schedule(windowFlush, windowNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                flush(true);
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending events on the calling thread and delivers further events right away.
+     */
+    void close() {
+        closed = true;
+        flush(true);
+    }
+
+    private void submit(Runnable flush) {
+        if (closed) {
+            return;
+        }
+        try {
+            executor.execute(flush);
+        } catch (RejectedExecutionException e) {
+            flush(true);
+        }
+    }
+
+    /**
+     * Delivers the pending events in batches of at most the batch size. A failing batch doesn't stop
+     * the delivery of the following ones, the first failure is rethrown once the events are delivered.
+     *
+     * @param all {@code true} - to deliver all pending events, {@code false} - to deliver only full batches.
+     */
+    private void flush(boolean all) {
+        RuntimeException failure = null;
+        flushLock.lock();
+        try {
+            while (all ? pendingCount.get() > 0 : pendingCount.get() >= batchSize) {
+                // only events already counted are taken, so the count never drops below zero
+                int size = Math.min(pendingCount.get(), batchSize);
+                List<Object> batch = new ArrayList<>(size);
+                while (batch.size() < size) {
+                    Object event = events.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                pendingCount.addAndGet(-batch.size());
+                try {
+                    listener.accept(Collections.unmodifiableList(batch));
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
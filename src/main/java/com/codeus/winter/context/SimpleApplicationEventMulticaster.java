@@ -0,0 +1,230 @@
+package com.codeus.winter.context;
+
+import com.codeus.winter.annotation.EventListener;
+import com.codeus.winter.config.BeanHandle;
+import com.codeus.winter.exception.ApplicationContextException;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApplicationEventPublisher} that multicasts events to the {@link EventListener} methods of beans.
+ * <p>
+ * Every listener method is bound to a {@link MethodHandle} once, when it is added. The listeners of an event class
+ * are looked up once as well and cached in an index by event class, so publishing an event is an index lookup
+ * and a direct invocation of each listener, without reflection or allocation on the calling thread.
+ * Adding listeners drops the index.
+ * <p>
+ * The listener beans are retrieved through {@link BeanHandle}s on every event, so a lazy listener bean is created
+ * on its first event. Every asynchronous listener gets its own {@link AsyncEventDelivery}: publishing an event
+ * appends it to a queue, the events are delivered in order on the given executor, and their exceptions are passed
+ * to the uncaught exception handler of the delivering thread.
+ * <p>
+ * Every batching listener, a listener method taking a {@code List<E>}, gets its own {@link EventBatch}:
+ * publishing an event only appends it to the batch, the batches are delivered on the given executor.
+ * The timer of the batch windows is started with the first batching listener.
+ * {@link #close()} delivers the pending batches.
+ */
+public final class SimpleApplicationEventMulticaster implements ApplicationEventPublisher, AutoCloseable {
+
+    private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ListenerInvoker[] NO_INVOKERS = new ListenerInvoker[0];
+
+    private final Executor asyncExecutor;
+    private ScheduledExecutorService batchScheduler;
+    private final List<ListenerInvoker> invokers = new CopyOnWriteArrayList<>();
+    private final List<EventBatch> batches = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, ListenerInvoker[]> invokersByEventType = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a multicaster.
+     *
+     * @param asyncExecutor an executor to invoke asynchronous listeners and deliver batches on,
+     *                      e.g. a virtual thread per task executor.
+     */
+    public SimpleApplicationEventMulticaster(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Adds the {@link EventListener} methods declared by the class of a bean.
+     *
+     * @param listenerBean  a handle to the bean.
+     * @param listenerClass the class of the bean.
+     * @throws ApplicationContextException if a listener method doesn't take exactly one event parameter,
+     *                                     has an invalid batch size or window, or cannot be bound to a method handle.
+     */
+    public void addListeners(BeanHandle<?> listenerBean, Class<?> listenerClass) {
+        boolean added = false;
+        for (Method method : listenerClass.getDeclaredMethods()) {
+            EventListener eventListener = method.getAnnotation(EventListener.class);
+            if (eventListener != null) {
+                invokers.add(bind(listenerBean, method, eventListener));
+                added = true;
+            }
+        }
+        if (added) {
+            invokersByEventType = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public void publishEvent(Object event) {
+        Map<Class<?>, ListenerInvoker[]> index = invokersByEventType;
+        ListenerInvoker[] eventInvokers = index.get(event.getClass());
+        if (eventInvokers == null) {
+            eventInvokers = index.computeIfAbsent(event.getClass(), this::findInvokers);
+        }
+
+        for (ListenerInvoker invoker : eventInvokers) {
+            if (invoker.batch() != null) {
+                invoker.batch().add(event);
+            } else if (invoker.asyncDelivery() != null) {
+                invoker.asyncDelivery().add(event);
+            } else {
+                invoker.method().invoke(event);
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending events of the batching listeners on the calling thread. Events published afterwards
+     * are delivered to the batching listeners right away, one event per batch.
+     *
+     * @throws ApplicationContextException if a batching listener fails, the other failures are suppressed.
+     */
+    @Override
+    public synchronized void close() {
+        ApplicationContextException failure = null;
+        for (EventBatch batch : batches) {
+            try {
+                batch.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = new ApplicationContextException("Unable to deliver pending event batches", e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (batchScheduler != null) {
+            batchScheduler.shutdownNow();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private ListenerInvoker[] findInvokers(Class<?> eventType) {
+        ListenerInvoker[] eventInvokers = invokers.stream()
+                .filter(invoker -> invoker.eventType().isAssignableFrom(eventType))
+                .toArray(ListenerInvoker[]::new);
+        return eventInvokers.length > 0 ? eventInvokers : NO_INVOKERS;
+    }
+
+    private ListenerInvoker bind(BeanHandle<?> listenerBean, Method method, EventListener eventListener) {
+        if (method.getParameterCount() != 1 || method.getParameterTypes()[0].isPrimitive()) {
+            throw new ApplicationContextException(
+                    "Event listener method must have exactly one parameter of a reference type: " + method);
+        }
+
+        ListenerMethod listenerMethod = new ListenerMethod(listenerBean, bindHandle(method), method.toString());
+        if (method.getParameterTypes()[0] != List.class) {
+            AsyncEventDelivery asyncDelivery = eventListener.async()
+                    ? new AsyncEventDelivery(listenerMethod::invoke, asyncExecutor)
+                    : null;
+            return new ListenerInvoker(method.getParameterTypes()[0], listenerMethod, null, asyncDelivery);
+        }
+
+        if (eventListener.batchSize() < 1 || eventListener.batchWindowMillis() < 1) {
+            throw new ApplicationContextException(
+                    "Batching event listener must have a positive batch size and window: " + method);
+        }
+        EventBatch batch = new EventBatch(listenerMethod::invoke, eventListener.batchSize(),
+                TimeUnit.MILLISECONDS.toNanos(eventListener.batchWindowMillis()), asyncExecutor, getBatchScheduler());
+        batches.add(batch);
+        return new ListenerInvoker(batchEventType(method), listenerMethod, batch, null);
+    }
+
+    /**
+     * Returns the timer of the batch windows, starting it on the first call.
+     */
+    private synchronized ScheduledExecutorService getBatchScheduler() {
+        if (batchScheduler == null) {
+            batchScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("winter-event-batch-timer").daemon().factory());
+        }
+        return batchScheduler;
+    }
+
+    /**
+     * Returns the event type of a batching listener, the element type of its {@code List} parameter.
+     */
+    private static Class<?> batchEventType(Method method) {
+        Type elementType = method.getGenericParameterTypes()[0] instanceof ParameterizedType listType
+                ? listType.getActualTypeArguments()[0]
+                : Object.class;
+        if (elementType instanceof WildcardType wildcardType) {
+            elementType = wildcardType.getUpperBounds()[0];
+        }
+        return elementType instanceof Class<?> elementClass ? elementClass : Object.class;
+    }
+
+    private static MethodHandle bindHandle(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(),
+                    MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(LISTENER_TYPE);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new ApplicationContextException("Unable to bind event listener " + method + ": " + e.getMessage(),
+                    e);
+        }
+    }
+
+    /**
+     * A listener method of an event type, with the batch of a batching listener
+     * or the delivery of an asynchronous one.
+     */
+    private record ListenerInvoker(Class<?> eventType,
+                                   ListenerMethod method,
+                                   @Nullable EventBatch batch,
+                                   @Nullable AsyncEventDelivery asyncDelivery) {
+    }
+
+    /**
+     * A listener method bound to a method handle of the type {@code (Object, Object)void}.
+     */
+    private record ListenerMethod(BeanHandle<?> listenerBean, MethodHandle handle, String description) {
+
+        void invoke(Object argument) {
+            Object listener = listenerBean.get();
+            try {
+                handle.invokeExact(listener, argument);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ApplicationContextException(
+                        "Event listener " + description + " failed: " + e.getMessage(), e);
+            }
+        }
+    }
+}
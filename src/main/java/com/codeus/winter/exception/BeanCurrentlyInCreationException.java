@@ -1,5 +1,7 @@
 package com.codeus.winter.exception;
 
+import java.util.List;
+
 /**
  * Exception that signal that requested bean is still in creation stage.
  * This typically happen when two beans have cyclic dependency.
@@ -10,4 +12,16 @@ public class BeanCurrentlyInCreationException extends RuntimeException {
         super("Bean %s is currently in creation. Check possible cyclic dependencies".formatted(beanName));
     }
 
+    /**
+     * Constructor with the dependency path that leads back to the bean in creation.
+     *
+     * @param beanName       a name of the bean in creation.
+     * @param dependencyPath names of the beans from the bean in creation to the bean that requested it again,
+     *                       e.g. {@code [beanOne, beanTwo, beanOne]}.
+     */
+    public BeanCurrentlyInCreationException(String beanName, List<String> dependencyPath) {
+        super("Bean %s is currently in creation. Cyclic dependency: %s"
+                .formatted(beanName, String.join(" -> ", dependencyPath)));
+    }
+
 }
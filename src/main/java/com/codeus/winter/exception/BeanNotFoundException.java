@@ -12,6 +12,17 @@ public class BeanNotFoundException extends RuntimeException {
         super(message);
     }
 
+    /**
+     * Constructor with message that can skip filling in the stack trace, e.g. for exceptions thrown
+     * by lookups that are expected to miss.
+     *
+     * @param message            message.
+     * @param writableStackTrace whether the stack trace should be captured.
+     */
+    public BeanNotFoundException(final String message, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
     /**
      * Constructor with message and cause.
      *
@@ -0,0 +1,32 @@
+package com.codeus.winter.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event recorded when the bean factory creates and post-processes a bean.
+ */
+@Name(WinterEvents.NAME_PREFIX + "BeanInstantiation")
+@Label("Bean Instantiation")
+@Category(WinterEvents.CATEGORY)
+public final class BeanInstantiationEvent extends Event {
+
+    @Label("Bean Name")
+    @Description("Name of the created bean")
+    private String beanName;
+
+    @Label("Bean Class")
+    @Description("Name of the class of the created bean")
+    private String beanClass;
+
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    public void setBeanClass(String beanClass) {
+        this.beanClass = beanClass;
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeus.winter.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event recorded when a bean post-processor processes a bean.
+ */
+@Name(WinterEvents.NAME_PREFIX + "BeanPostProcess")
+@Label("Bean Post-Process")
+@Category(WinterEvents.CATEGORY)
+public final class BeanPostProcessEvent extends Event {
+
+    @Label("Bean Name")
+    @Description("Name of the processed bean")
+    private String beanName;
+
+    @Label("Post-Processor")
+    @Description("Class name of the post-processor")
+    private String postProcessor;
+
+    @Label("Phase")
+    @Description("beforeInitialization or afterInitialization")
+    private String phase;
+
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    public void setPostProcessor(String postProcessor) {
+        this.postProcessor = postProcessor;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,143 @@
+package com.codeus.winter.metrics;
+
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link StartupRecorder} that keeps ended steps in memory, e.g. to export them with {@link StartupJsonExporter}.
+ * <p>
+ * Steps can be recorded concurrently from any number of threads. Every thread keeps its own stack of open steps
+ * to find the parent of a new step. The buffer is bounded, steps ended after it is full are dropped and counted.
+ */
+public class BufferingStartupRecorder implements StartupRecorder {
+
+    private final int capacity;
+    private final long originNanos = System.nanoTime();
+    private final AtomicLong stepIds = new AtomicLong();
+    private final AtomicInteger endedStepCount = new AtomicInteger();
+    private final Queue<RecordedStep> recordedSteps = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<BufferedStep>> openSteps = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Creates a recorder keeping at most the given number of steps.
+     *
+     * @param capacity the maximum number of steps to keep.
+     */
+    public BufferingStartupRecorder(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        BufferedStep parent = openSteps.get().peek();
+        return start(name, parent != null ? parent.getId() : null);
+    }
+
+    @Override
+    public StartupStep start(String name, StartupStep parent) {
+        return start(name, parent.getId());
+    }
+
+    private StartupStep start(String name, @Nullable Long parentId) {
+        BufferedStep step = new BufferedStep(stepIds.incrementAndGet(), parentId, name);
+        openSteps.get().push(step);
+        return step;
+    }
+
+    /**
+     * Returns the recorded steps ordered by their start.
+     *
+     * @return an immutable list of the ended steps that fit into the buffer.
+     */
+    public List<RecordedStep> getRecordedSteps() {
+        return recordedSteps.stream()
+                .sorted(Comparator.comparingLong(RecordedStep::startNanos).thenComparingLong(RecordedStep::id))
+                .toList();
+    }
+
+    /**
+     * Returns the number of ended steps that didn't fit into the buffer.
+     *
+     * @return the number of dropped steps.
+     */
+    public int getDroppedStepCount() {
+        return Math.max(0, endedStepCount.get() - capacity);
+    }
+
+    private void record(BufferedStep step, long endNanos) {
+        Deque<BufferedStep> threadSteps = openSteps.get();
+        threadSteps.remove(step);
+        if (threadSteps.isEmpty()) {
+            openSteps.remove();
+        }
+
+        if (endedStepCount.incrementAndGet() <= capacity) {
+            recordedSteps.add(new RecordedStep(step.getId(), step.getParentId(), step.getName(),
+                    Thread.currentThread().getName(), step.startNanos - originNanos, endNanos - step.startNanos,
+                    Collections.unmodifiableMap(step.tags)));
+        }
+    }
+
+    private final class BufferedStep implements StartupStep {
+        private final long id;
+        private final Long parentId;
+        private final String name;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, String> tags = new LinkedHashMap<>();
+        private boolean ended;
+
+        private BufferedStep(long id, @Nullable Long parentId, String name) {
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Nullable
+        @Override
+        public Long getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            if (ended) {
+                throw new IllegalStateException("Step " + name + " has already ended");
+            }
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void end() {
+            if (ended) {
+                throw new IllegalStateException("Step " + name + " has already ended");
+            }
+            ended = true;
+            record(this, System.nanoTime());
+        }
+    }
+}
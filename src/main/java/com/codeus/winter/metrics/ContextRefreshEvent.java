@@ -0,0 +1,32 @@
+package com.codeus.winter.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event recorded when an application context eagerly creates its beans.
+ */
+@Name(WinterEvents.NAME_PREFIX + "ContextRefresh")
+@Label("Context Refresh")
+@Category(WinterEvents.CATEGORY)
+public final class ContextRefreshEvent extends Event {
+
+    @Label("Context Id")
+    @Description("Id of the refreshed context")
+    private String contextId;
+
+    @Label("Display Name")
+    @Description("Display name of the refreshed context")
+    private String displayName;
+
+    public void setContextId(String contextId) {
+        this.contextId = contextId;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+}
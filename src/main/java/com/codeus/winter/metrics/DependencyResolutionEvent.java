@@ -0,0 +1,32 @@
+package com.codeus.winter.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event recorded when the bean factory resolves a dependency of a bean.
+ */
+@Name(WinterEvents.NAME_PREFIX + "DependencyResolution")
+@Label("Dependency Resolution")
+@Category(WinterEvents.CATEGORY)
+public final class DependencyResolutionEvent extends Event {
+
+    @Label("Dependency Name")
+    @Description("Name of the injection point, if known")
+    private String dependencyName;
+
+    @Label("Dependency Type")
+    @Description("Declared type of the injection point")
+    private String dependencyType;
+
+    public void setDependencyName(String dependencyName) {
+        this.dependencyName = dependencyName;
+    }
+
+    public void setDependencyType(String dependencyType) {
+        this.dependencyType = dependencyType;
+    }
+}
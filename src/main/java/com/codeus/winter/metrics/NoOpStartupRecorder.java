@@ -0,0 +1,50 @@
+package com.codeus.winter.metrics;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link StartupRecorder} that ignores all steps. Every step is the same immutable instance.
+ */
+final class NoOpStartupRecorder implements StartupRecorder {
+
+    private static final StartupStep NO_OP_STEP = new NoOpStartupStep();
+
+    @Override
+    public StartupStep start(String name) {
+        return NO_OP_STEP;
+    }
+
+    @Override
+    public StartupStep start(String name, StartupStep parent) {
+        return NO_OP_STEP;
+    }
+
+    private static final class NoOpStartupStep implements StartupStep {
+
+        @Override
+        public long getId() {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public Long getParentId() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return "";
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public void end() {
+            // nothing to record
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeus.winter.metrics;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+
+/**
+ * A step recorded by a {@link BufferingStartupRecorder}.
+ *
+ * @param id            the id of the step.
+ * @param parentId      the id of the parent step, or {@code null} for a top-level step.
+ * @param name          the name of the step.
+ * @param threadName    the name of the thread that ran the step.
+ * @param startNanos    the start of the step in nanoseconds since the recorder was created.
+ * @param durationNanos the duration of the step in nanoseconds.
+ * @param tags          the tags of the step in the order they were added.
+ */
+public record RecordedStep(long id,
+                           @Nullable Long parentId,
+                           String name,
+                           String threadName,
+                           long startNanos,
+                           long durationNanos,
+                           Map<String, String> tags) {
+}
@@ -0,0 +1,106 @@
+package com.codeus.winter.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes the steps of a {@link BufferingStartupRecorder} as JSON, for example:
+ * <pre>
+ * {"droppedSteps":0,"steps":[
+ * {"id":1,"parentId":null,"name":"winter.context.refresh","thread":"main","startNanos":10250,"durationNanos":81200,
+ * "tags":{}}
+ * ]}
+ * </pre>
+ * Steps are written ordered by their start, one step per line.
+ */
+public final class StartupJsonExporter {
+
+    private static final int UNICODE_ESCAPE_LIMIT = 0x20;
+
+    private StartupJsonExporter() {
+    }
+
+    /**
+     * Exports the recorded steps into a string.
+     *
+     * @param recorder a recorder to export the steps of.
+     * @return the steps as JSON.
+     */
+    public static String toJson(BufferingStartupRecorder recorder) {
+        StringBuilder json = new StringBuilder();
+        try {
+            export(recorder, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Exports the recorded steps, e.g. into a {@link java.io.Writer}.
+     *
+     * @param recorder a recorder to export the steps of.
+     * @param output   an output to append the JSON to.
+     * @throws IOException if the output cannot be written.
+     */
+    public static void export(BufferingStartupRecorder recorder, Appendable output) throws IOException {
+        output.append("{\"droppedSteps\":").append(String.valueOf(recorder.getDroppedStepCount()))
+                .append(",\"steps\":[");
+        Iterator<RecordedStep> steps = recorder.getRecordedSteps().iterator();
+        while (steps.hasNext()) {
+            output.append('\n');
+            appendStep(steps.next(), output);
+            if (steps.hasNext()) {
+                output.append(',');
+            }
+        }
+        output.append("\n]}\n");
+    }
+
+    private static void appendStep(RecordedStep step, Appendable output) throws IOException {
+        output.append("{\"id\":").append(String.valueOf(step.id()))
+                .append(",\"parentId\":").append(String.valueOf(step.parentId()))
+                .append(",\"name\":");
+        appendString(step.name(), output);
+        output.append(",\"thread\":");
+        appendString(step.threadName(), output);
+        output.append(",\"startNanos\":").append(String.valueOf(step.startNanos()))
+                .append(",\"durationNanos\":").append(String.valueOf(step.durationNanos()))
+                .append(",\"tags\":{");
+        Iterator<Map.Entry<String, String>> tags = step.tags().entrySet().iterator();
+        while (tags.hasNext()) {
+            Map.Entry<String, String> tag = tags.next();
+            appendString(tag.getKey(), output);
+            output.append(':');
+            appendString(tag.getValue(), output);
+            if (tags.hasNext()) {
+                output.append(',');
+            }
+        }
+        output.append("}}");
+    }
+
+    private static void appendString(String value, Appendable output) throws IOException {
+        output.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> output.append("\\\"");
+                case '\\' -> output.append("\\\\");
+                case '\n' -> output.append("\\n");
+                case '\r' -> output.append("\\r");
+                case '\t' -> output.append("\\t");
+                default -> {
+                    if (c < UNICODE_ESCAPE_LIMIT) {
+                        output.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        output.append(c);
+                    }
+                }
+            }
+        }
+        output.append('"');
+    }
+}
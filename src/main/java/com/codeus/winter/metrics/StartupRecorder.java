@@ -0,0 +1,34 @@
+package com.codeus.winter.metrics;
+
+/**
+ * Records the steps of the container startup, e.g. scanning packages, creating beans and post-processing them.
+ * <p>
+ * Steps started on a thread while another step of the same thread is open become children of that step.
+ * The default {@link #NO_OP} recorder doesn't record anything and doesn't allocate,
+ * use {@link BufferingStartupRecorder} to find out where startup time goes.
+ */
+public interface StartupRecorder {
+
+    /**
+     * Recorder that ignores all steps.
+     */
+    StartupRecorder NO_OP = new NoOpStartupRecorder();
+
+    /**
+     * Starts a step on the current thread. The parent of the step is the innermost open step of the thread.
+     *
+     * @param name a name of the step, e.g. {@code winter.bean.create}.
+     * @return the started step, to be ended on the same thread.
+     */
+    StartupStep start(String name);
+
+    /**
+     * Starts a step on the current thread as a child of a step started on another thread,
+     * e.g. a bean created on an executor during the initialization of the context.
+     *
+     * @param name   a name of the step.
+     * @param parent the parent step.
+     * @return the started step, to be ended on the same thread.
+     */
+    StartupStep start(String name, StartupStep parent);
+}
@@ -0,0 +1,55 @@
+package com.codeus.winter.metrics;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A step of the container startup started by a {@link StartupRecorder}.
+ * <p>
+ * A step is ended exactly once on the thread that started it, usually with try-with-resources.
+ */
+public interface StartupStep extends AutoCloseable {
+
+    /**
+     * Returns the id of this step, unique within its recorder.
+     *
+     * @return the step id.
+     */
+    long getId();
+
+    /**
+     * Returns the id of the parent step.
+     *
+     * @return the parent step id, or {@code null} for a top-level step.
+     */
+    @Nullable
+    Long getParentId();
+
+    /**
+     * Returns the name of this step.
+     *
+     * @return the step name.
+     */
+    String getName();
+
+    /**
+     * Adds a tag describing this step, e.g. the name of the bean being created.
+     *
+     * @param key   a tag key.
+     * @param value a tag value.
+     * @return this step.
+     */
+    StartupStep tag(String key, String value);
+
+    /**
+     * Ends this step and records its duration.
+     */
+    void end();
+
+    /**
+     * Ends this step, see {@link #end()}.
+     */
+    @Override
+    default void close() {
+        end();
+    }
+}
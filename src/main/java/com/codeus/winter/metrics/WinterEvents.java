@@ -0,0 +1,25 @@
+package com.codeus.winter.metrics;
+
+/**
+ * Names shared by the Flight Recorder events of the container, e.g. {@link BeanInstantiationEvent}.
+ * <p>
+ * The events are enabled in every recording, e.g. one started with {@code -XX:StartFlightRecording},
+ * and can be shown with {@code jfr print --categories Winter recording.jfr}. The container begins an event
+ * before the recorded work and fills in its fields only if {@link jdk.jfr.Event#shouldCommit()} returns
+ * {@code true}, so the events cost no more than that check while no recording is running.
+ */
+final class WinterEvents {
+
+    /**
+     * Prefix of the names of all container events.
+     */
+    static final String NAME_PREFIX = "com.codeus.winter.";
+
+    /**
+     * Category of all container events.
+     */
+    static final String CATEGORY = "Winter";
+
+    private WinterEvents() {
+    }
+}
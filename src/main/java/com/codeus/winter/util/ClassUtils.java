@@ -1,24 +1,78 @@
 package com.codeus.winter.util;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 public final class ClassUtils {
 
     private ClassUtils() {
     }
 
     /**
-     * Resolves class type for given class name.
+     * Resolves class type for given class name against the class loader of this class.
      *
      * @param className a name of a class to resolve.
      * @return class type for given class name.
      * @throws IllegalArgumentException if class type cannot be found by the given class name.
+     * @see #resolveClass(String, ClassLoader)
      */
     public static Class<?> resolveClass(String className) {
-        Class<?> beanClass;
+        return resolveClass(className, getDefaultClassLoader());
+    }
+
+    /**
+     * Resolves class type for given class name against the given class loader without initializing the class.
+     * Nothing is cached here, callers that resolve a class repeatedly keep it themselves,
+     * e.g. {@link com.codeus.winter.config.BeanDefinition#resolveBeanClass(ClassLoader)}.
+     *
+     * @param className   a name of a class to resolve.
+     * @param classLoader a class loader to resolve the class with.
+     * @return class type for given class name.
+     * @throws IllegalArgumentException if class type cannot be found by the given class name.
+     */
+    public static Class<?> resolveClass(String className, ClassLoader classLoader) {
         try {
-            beanClass = Class.forName(className);
+            return Class.forName(className, false, classLoader);
         } catch (ClassNotFoundException e) {
             throw new IllegalArgumentException("Cannot resolve class for name='%s'".formatted(className), e);
         }
-        return beanClass;
+    }
+
+    /**
+     * Returns the class loader bean classes are resolved against when no class loader is given:
+     * the class loader of the container classes.
+     *
+     * @return the default class loader.
+     */
+    public static ClassLoader getDefaultClassLoader() {
+        return ClassUtils.class.getClassLoader();
+    }
+
+    /**
+     * Collects every type the given class is assignable to: the class itself, all of its superclasses
+     * and all interfaces implemented directly or inherited from superclasses and superinterfaces.
+     *
+     * @param clazz a class to collect assignable types for.
+     * @return an ordered set of types starting with the given class itself.
+     */
+    public static Set<Class<?>> getAllAssignableTypes(Class<?> clazz) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> typesToVisit = new ArrayDeque<>();
+        typesToVisit.add(clazz);
+
+        while (!typesToVisit.isEmpty()) {
+            Class<?> type = typesToVisit.poll();
+            if (!types.add(type)) {
+                continue;
+            }
+            if (type.getSuperclass() != null) {
+                typesToVisit.add(type.getSuperclass());
+            }
+            Collections.addAll(typesToVisit, type.getInterfaces());
+        }
+        return types;
     }
 }
@@ -0,0 +1,23 @@
+package com.codeus.winter.annotation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class AbstractLifecycleBean {
+
+    private final List<String> invocations = new ArrayList<>();
+
+    @PostConstruct
+    public void connect() {
+        invocations.add("connect");
+    }
+
+    @PreDestroy
+    public void disconnect() {
+        invocations.add("disconnect");
+    }
+
+    public List<String> getInvocations() {
+        return invocations;
+    }
+}
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -24,6 +26,13 @@ class AutowiredAnnotationBeanPostProcessorTest {
         postProcessor.setBeanFactory(mockBeanFactory);
     }
 
+    @Test
+    void appliesOnlyToClassesWithAutowiredMembers() {
+        assertTrue(postProcessor.appliesTo(BeanWithAutowiredField.class));
+        assertTrue(postProcessor.appliesTo(BeanWithAutowiredMethod.class));
+        assertFalse(postProcessor.appliesTo(BeanComponent.class));
+    }
+
     @Test
     void injectField() {
         BeanWithAutowiredField bean = new BeanWithAutowiredField();
@@ -47,4 +56,27 @@ class AutowiredAnnotationBeanPostProcessorTest {
         assertEquals(BeanWithAutowiredMethod.class, postProcessedBean.getClass());
         assertNotNull(((BeanWithAutowiredMethod) postProcessedBean).getDependency());
     }
+
+    @Test
+    void injectMethodWithMultipleParametersOnce() {
+        BeanWithAutowiredMultiParameterMethod bean = new BeanWithAutowiredMultiParameterMethod();
+
+        postProcessor.postProcessBeforeInitialization(bean, "BeanWithAutowiredMultiParameterMethod");
+
+        assertEquals(1, bean.getInvocations());
+        assertNotNull(bean.getFirst());
+        assertNotNull(bean.getSecond());
+    }
+
+    @Test
+    void injectEveryInstanceOfClass() {
+        BeanWithAutowiredField first = new BeanWithAutowiredField();
+        BeanWithAutowiredField second = new BeanWithAutowiredField();
+
+        postProcessor.postProcessBeforeInitialization(first, "first");
+        postProcessor.postProcessBeforeInitialization(second, "second");
+
+        assertNotNull(first.getDependency());
+        assertNotNull(second.getDependency());
+    }
 }
@@ -0,0 +1,27 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.test.BeanA;
+
+@Component
+public class BeanWithAsyncInitMethod {
+
+    @Autowired
+    private BeanA dependency;
+
+    private volatile Thread initThread;
+    private volatile BeanA initDependency;
+
+    @AsyncInit
+    public void init() {
+        initThread = Thread.currentThread();
+        initDependency = dependency;
+    }
+
+    public Thread getInitThread() {
+        return initThread;
+    }
+
+    public BeanA getInitDependency() {
+        return initDependency;
+    }
+}
@@ -0,0 +1,33 @@
+package com.codeus.winter.annotation;
+
+@Component
+@SuppressWarnings("unused")
+public class BeanWithAutowiredMultiParameterMethod {
+
+    private BeanComponent first;
+    private BeanComponent second;
+    private int invocations;
+
+    public BeanWithAutowiredMultiParameterMethod() {
+        // default constructor
+    }
+
+    @Autowired
+    public void setDependencies(BeanComponent first, BeanComponent second) {
+        this.first = first;
+        this.second = second;
+        invocations++;
+    }
+
+    public BeanComponent getFirst() {
+        return first;
+    }
+
+    public BeanComponent getSecond() {
+        return second;
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+}
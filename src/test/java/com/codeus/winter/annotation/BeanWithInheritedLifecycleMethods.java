@@ -0,0 +1,10 @@
+package com.codeus.winter.annotation;
+
+@Component
+public class BeanWithInheritedLifecycleMethods extends AbstractLifecycleBean {
+
+    @PostConstruct
+    public void start() {
+        getInvocations().add("start");
+    }
+}
@@ -1,9 +1,25 @@
 package com.codeus.winter.annotation;
 
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.test.BeanA;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.codeus.winter.test.MockHelper.singletonBeanDefinitionMock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -36,4 +52,66 @@ class InitDestroyAnnotationBeanPostProcessorTest {
         verify(spyBean).destroy();
         verifyNoMoreInteractions(spyBean);
     }
+
+    @Test
+    void invokeInheritedLifecycleMethodsSuperclassFirst() {
+        BeanWithInheritedLifecycleMethods bean = new BeanWithInheritedLifecycleMethods();
+
+        postProcessor.postProcessBeforeInitialization(bean, "BeanWithInheritedLifecycleMethods");
+        postProcessor.postProcessBeforeDestruction(bean, "BeanWithInheritedLifecycleMethods");
+
+        assertEquals(List.of("connect", "start", "disconnect"), bean.getInvocations());
+    }
+
+    @Test
+    void startAsyncInitAfterDependencyInjection() {
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("beanA", singletonBeanDefinitionMock(BeanA.class));
+        beanDefinitions.put("beanWithAsyncInitMethod", singletonBeanDefinitionMock(BeanWithAsyncInitMethod.class));
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory(beanDefinitions);
+        postProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(postProcessor);
+        AutowiredAnnotationBeanPostProcessor autowiredPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredPostProcessor.setBeanFactory(beanFactory);
+        autowiredPostProcessor.setInstantiationStrategy(beanFactory.getInstantiationStrategy());
+        beanFactory.addBeanPostProcessor(autowiredPostProcessor);
+
+        BeanWithAsyncInitMethod bean = beanFactory.getBean(BeanWithAsyncInitMethod.class);
+        beanFactory.awaitAsyncInitializations();
+
+        assertSame(beanFactory.getBean(BeanA.class), bean.getInitDependency());
+    }
+
+    @Test
+    void invokeAsyncInitAnnotationOnExecutor() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        BeanWithAsyncInitMethod bean = new BeanWithAsyncInitMethod();
+        postProcessor.setBeanFactory(beanFactory);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            postProcessor.setAsyncInitExecutor(executor);
+            postProcessor.postProcessBeforeInitialization(bean, "BeanWithAsyncInitMethod");
+            beanFactory.awaitAsyncInitializations();
+            assertNull(bean.getInitThread());
+
+            postProcessor.postProcessAfterInitialization(bean, "BeanWithAsyncInitMethod");
+            beanFactory.awaitAsyncInitializations();
+        }
+
+        assertNotNull(bean.getInitThread());
+        assertNotSame(Thread.currentThread(), bean.getInitThread());
+    }
+
+    @Test
+    void appliesOnlyToClassesWithPostConstructAnnotation() {
+        assertTrue(postProcessor.appliesTo(BeanWithInitAndDestroyMethods.class));
+        assertTrue(postProcessor.appliesTo(BeanWithAsyncInitMethod.class));
+        assertFalse(postProcessor.appliesTo(BeanComponent.class));
+    }
+
+    @Test
+    void requiresDestructionOnlyWithPreDestroyAnnotation() {
+        assertTrue(postProcessor.requiresDestruction(new BeanWithInitAndDestroyMethods()));
+        assertFalse(postProcessor.requiresDestruction(new Object()));
+    }
 }
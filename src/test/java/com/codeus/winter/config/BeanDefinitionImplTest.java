@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Unit tests for {@link BeanDefinitionImpl}.
@@ -101,6 +103,19 @@ class BeanDefinitionImplTest {
                 "Primary should match the value set");
     }
 
+    /**
+     * Tests that the `lazyInit` property can be set and retrieved correctly.
+     */
+    @Test
+    void shouldSetAndGetLazyInit() {
+        assertFalse(beanDefinition.isLazyInit(),
+                "Default lazyInit value should be false");
+
+        beanDefinition.setLazyInit(true);
+        assertTrue(beanDefinition.isLazyInit(),
+                "LazyInit should match the value set");
+    }
+
     /**
      * Tests that the factory bean name can be set and retrieved correctly.
      */
@@ -148,4 +163,53 @@ class BeanDefinitionImplTest {
         assertEquals(destroyMethodName, beanDefinition.getDestroyMethodName(),
                 "Destroy method name should match the value set");
     }
+
+    /**
+     * Tests that the bean class is resolved once and cached until the bean class name changes.
+     */
+    @Test
+    void shouldResolveAndCacheBeanClass() {
+        CountingClassLoader classLoader = new CountingClassLoader();
+        beanDefinition.setBeanClassName(String.class.getName());
+
+        assertSame(String.class, beanDefinition.resolveBeanClass(classLoader));
+        assertSame(String.class, beanDefinition.resolveBeanClass(classLoader));
+        assertEquals(1, classLoader.loadedClassCount, "Bean class should be looked up only once");
+
+        beanDefinition.setBeanClassName(Integer.class.getName());
+
+        assertSame(Integer.class, beanDefinition.resolveBeanClass(classLoader));
+    }
+
+    /**
+     * Tests that setting the bean class sets the bean class name and skips the class lookup.
+     */
+    @Test
+    void shouldSetBeanClass() {
+        CountingClassLoader classLoader = new CountingClassLoader();
+        beanDefinition.setBeanClass(StringBuilder.class);
+
+        assertEquals(StringBuilder.class.getName(), beanDefinition.getBeanClassName());
+        assertSame(StringBuilder.class, beanDefinition.resolveBeanClass(classLoader));
+        assertEquals(0, classLoader.loadedClassCount, "Bean class should not be looked up");
+
+        beanDefinition.setBeanClass(null);
+
+        assertNull(beanDefinition.getBeanClassName());
+        assertNull(beanDefinition.resolveBeanClass(classLoader));
+    }
+
+    private static final class CountingClassLoader extends ClassLoader {
+        private int loadedClassCount;
+
+        private CountingClassLoader() {
+            super(BeanDefinitionImplTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loadedClassCount++;
+            return super.loadClass(name, resolve);
+        }
+    }
 }
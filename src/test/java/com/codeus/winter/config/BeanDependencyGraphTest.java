@@ -0,0 +1,95 @@
+package com.codeus.winter.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanDependencyGraphTest {
+
+    @Test
+    @DisplayName("should split beans into levels of independent beans in registration order")
+    void shouldSplitBeansIntoLevels() {
+        Map<String, List<String>> dependencies = Map.of(
+                "repository", List.of(),
+                "service", List.of("repository", "clock"),
+                "clock", List.of(),
+                "controller", List.of("service", "clock"));
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(
+                List.of("controller", "service", "repository", "clock"), dependencies::get);
+
+        assertEquals(List.of(List.of("repository", "clock"), List.of("service"), List.of("controller")),
+                graph.getLevels());
+        assertTrue(graph.getUnresolvedBeanNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should ignore self dependencies and dependencies on unknown beans")
+    void shouldIgnoreSelfAndUnknownDependencies() {
+        Map<String, List<String>> dependencies = Map.of(
+                "service", List.of("service", "java.util.List"),
+                "repository", List.of("service"));
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(List.of("service", "repository"), dependencies::get);
+
+        assertEquals(List.of(List.of("service"), List.of("repository")), graph.getLevels());
+    }
+
+    @Test
+    @DisplayName("should return beans of a dependency cycle and their dependents as unresolved")
+    void shouldReturnCyclicBeansAsUnresolved() {
+        Map<String, List<String>> dependencies = Map.of(
+                "clock", List.of(),
+                "beanOne", List.of("beanTwo", "clock"),
+                "beanTwo", List.of("beanOne"),
+                "controller", List.of("beanOne"));
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(
+                List.of("controller", "beanOne", "beanTwo", "clock"), dependencies::get);
+
+        assertEquals(List.of(List.of("clock")), graph.getLevels());
+        assertEquals(List.of("controller", "beanOne", "beanTwo"), graph.getUnresolvedBeanNames());
+    }
+
+    @Test
+    @DisplayName("should order beans after their dependencies followed by unresolved beans")
+    void shouldReturnCreationOrder() {
+        Map<String, List<String>> dependencies = Map.of(
+                "controller", List.of("service"),
+                "service", List.of("repository"),
+                "repository", List.of(),
+                "beanOne", List.of("beanTwo"),
+                "beanTwo", List.of("beanOne"));
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(
+                List.of("beanOne", "controller", "service", "beanTwo", "repository"), dependencies::get);
+
+        assertEquals(List.of("repository", "service", "controller", "beanOne", "beanTwo"),
+                graph.getCreationOrder());
+    }
+
+    @Test
+    @DisplayName("should level a deep dependency chain registered in reverse order")
+    void shouldLevelDeepChain() {
+        int chainLength = 100_000;
+        List<String> beanNames = new ArrayList<>();
+        for (int i = chainLength - 1; i >= 0; i--) {
+            beanNames.add("bean" + i);
+        }
+
+        BeanDependencyGraph graph = BeanDependencyGraph.build(beanNames, beanName -> {
+            int index = Integer.parseInt(beanName.substring("bean".length()));
+            return index > 0 ? List.of("bean" + (index - 1)) : List.of();
+        });
+
+        assertEquals(chainLength, graph.getLevels().size());
+        assertEquals("bean0", graph.getCreationOrder().getFirst());
+        assertEquals("bean" + (chainLength - 1), graph.getCreationOrder().getLast());
+    }
+}
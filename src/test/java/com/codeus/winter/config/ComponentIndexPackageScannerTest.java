@@ -0,0 +1,154 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.Configuration;
+import com.codeus.winter.config.impl.ComponentIndexPackageScanner;
+import com.codeus.winter.config.indexed.IndexedComponent;
+import com.codeus.winter.config.indexed.NotIndexedComponent;
+import com.codeus.winter.config.test.inner.WinterComponent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ComponentIndex} and {@link ComponentIndexPackageScanner}.
+ * The test index resource lists only {@link IndexedComponent}. Tests of the scanner put the index and the classes
+ * into temporary classpath roots, as Gradle keeps the test resources and classes in separate roots.
+ */
+class ComponentIndexPackageScannerTest {
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+    private final ComponentIndex componentIndex = ComponentIndex.load(classLoader);
+
+    @Test
+    void shouldLoadIndexedComponentMetadata() {
+        assertNotNull(componentIndex);
+        ComponentIndex.Entry entry = componentIndex.getComponent(IndexedComponent.class.getName());
+
+        assertNotNull(entry);
+        assertEquals(Set.of(Component.class.getName()), entry.stereotypes());
+        assertEquals("prototype", entry.scope());
+        assertTrue(entry.primary());
+        assertTrue(entry.lazy());
+        assertTrue(entry.eventListener());
+        assertEquals(List.of("com.codeus.winter.test.BeanA"), entry.dependsOn());
+        assertEquals(List.of("init"), entry.initMethodNames());
+        assertTrue(entry.destroyMethodNames().isEmpty());
+    }
+
+    @Test
+    void shouldNotReturnComponentsWithoutRequestedStereotype() {
+        assertTrue(componentIndex.getComponents("com.codeus.winter.config.indexed", Set.of(Configuration.class))
+                .isEmpty());
+    }
+
+    @Test
+    void shouldFindOnlyIndexedClassesWhenRootIsIndexed() throws IOException {
+        Path root = Files.createTempDirectory("indexed");
+        writeIndex(root, IndexedComponent.class);
+        copyClass(root, IndexedComponent.class);
+        copyClass(root, NotIndexedComponent.class);
+
+        try (var rootsClassLoader = new RootsClassLoader(root)) {
+            var packageScanner = new ComponentIndexPackageScanner(ComponentIndex.load(rootsClassLoader),
+                    rootsClassLoader);
+
+            Set<Class<?>> result = packageScanner.findClassesWithAnnotations("com.codeus.winter.config.indexed",
+                    Set.of(Component.class));
+
+            assertEquals(Set.of(IndexedComponent.class), result);
+        }
+    }
+
+    @Test
+    void shouldScanRootsWithoutIndex() throws IOException {
+        Path indexedRoot = Files.createTempDirectory("indexed");
+        writeIndex(indexedRoot, IndexedComponent.class);
+        copyClass(indexedRoot, IndexedComponent.class);
+        Path unindexedRoot = Files.createTempDirectory("unindexed");
+        copyClass(unindexedRoot, NotIndexedComponent.class);
+
+        try (var rootsClassLoader = new RootsClassLoader(indexedRoot, unindexedRoot)) {
+            var packageScanner = new ComponentIndexPackageScanner(ComponentIndex.load(rootsClassLoader),
+                    rootsClassLoader);
+
+            Set<Class<?>> result = packageScanner.findClassesWithAnnotations("com.codeus.winter.config.indexed",
+                    Set.of(Component.class));
+
+            assertEquals(Set.of(IndexedComponent.class, NotIndexedComponent.class), result);
+        }
+    }
+
+    @Test
+    void shouldScanClasspathWhenIndexDoesNotCoverPackage() {
+        var packageScanner = new ComponentIndexPackageScanner(componentIndex, classLoader);
+
+        Set<Class<?>> result = packageScanner.findClassesWithAnnotations("com.codeus.winter.config.test.inner",
+                Set.of(Component.class));
+
+        assertTrue(result.contains(WinterComponent.class));
+    }
+
+    @Test
+    void shouldScanClasspathWhenIndexIsAbsent() {
+        var packageScanner = new ComponentIndexPackageScanner(null, classLoader);
+
+        Set<Class<?>> result = packageScanner.findClassesWithAnnotations("com.codeus.winter.config.indexed",
+                Set.of(Component.class));
+
+        assertEquals(Set.of(IndexedComponent.class, NotIndexedComponent.class), result);
+    }
+
+    private static void writeIndex(Path root, Class<?> component) throws IOException {
+        Path index = root.resolve(ComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, component.getName() + "=stereotypes:" + Component.class.getName() + "\n");
+    }
+
+    private static void copyClass(Path root, Class<?> type) throws IOException {
+        String resourceName = type.getName().replace('.', '/') + ".class";
+        Path target = root.resolve(resourceName);
+        Files.createDirectories(target.getParent());
+        try (InputStream classFile = type.getClassLoader().getResourceAsStream(resourceName)) {
+            Files.copy(Objects.requireNonNull(classFile), target);
+        }
+    }
+
+    /**
+     * Class loader that loads classes through the test class loader but only sees the resources of its own roots,
+     * so every root stands for a jar or classes directory of the classpath.
+     */
+    private static final class RootsClassLoader extends URLClassLoader {
+
+        private RootsClassLoader(Path... roots) throws MalformedURLException {
+            super(toUrls(roots), ComponentIndexPackageScannerTest.class.getClassLoader());
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return findResources(name);
+        }
+
+        private static URL[] toUrls(Path... roots) throws MalformedURLException {
+            URL[] urls = new URL[roots.length];
+            for (int i = 0; i < roots.length; i++) {
+                urls[i] = roots[i].toUri().toURL();
+            }
+            return urls;
+        }
+    }
+}
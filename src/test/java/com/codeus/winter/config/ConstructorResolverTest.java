@@ -13,8 +13,11 @@ import java.lang.reflect.Constructor;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class ConstructorResolverTest {
 
@@ -85,4 +88,30 @@ class ConstructorResolverTest {
             assertArrayEquals(argumentArray, new Object[]{});
         }
     }
+
+    @Nested
+    @DisplayName("makeArgumentArray with a constructor plan")
+    class MakeArgumentArrayWithPlanTests {
+
+        @Test
+        @DisplayName("should resolve the same descriptors for every argument array")
+        void testMakingArgumentArrayWithPlanDescriptors() throws NoSuchMethodException {
+            AbstractAutowireCapableBeanFactory beanFactory = mock(AbstractAutowireCapableBeanFactory.class);
+            doReturn(beanAMock).when(beanFactory)
+                    .resolveDependency(argThat(desc -> desc.getDependencyClass() == BeanA.class));
+            doReturn(beanBMock).when(beanFactory)
+                    .resolveDependency(argThat(desc -> desc.getDependencyClass() == BeanB.class));
+            Constructor<BeanC> constructor = BeanC.class.getConstructor(BeanA.class, BeanB.class);
+            ConstructorPlan constructorPlan = ConstructorPlan.of(BeanC.class, constructor, null);
+            ConstructorResolver resolver = new ConstructorResolver(beanFactory);
+
+            Object[] firstArgumentArray = resolver.makeArgumentArray(constructorPlan);
+            Object[] secondArgumentArray = resolver.makeArgumentArray(constructorPlan);
+
+            assertArrayEquals(new Object[]{beanAMock, beanBMock}, firstArgumentArray);
+            assertArrayEquals(new Object[]{beanAMock, beanBMock}, secondArgumentArray);
+            verify(beanFactory, times(2)).resolveDependency(same(constructorPlan.getDescriptors()[0]));
+            verify(beanFactory, times(2)).resolveDependency(same(constructorPlan.getDescriptors()[1]));
+        }
+    }
 }
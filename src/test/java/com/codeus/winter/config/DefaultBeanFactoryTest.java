@@ -1,9 +1,13 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.config.impl.MethodHandleInstantiationStrategy;
 import com.codeus.winter.exception.BeanCurrentlyInCreationException;
 import com.codeus.winter.exception.BeanFactoryException;
 import com.codeus.winter.exception.BeanNotFoundException;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+import com.codeus.winter.metrics.BufferingStartupRecorder;
+import com.codeus.winter.metrics.RecordedStep;
 import com.codeus.winter.test.BeanA;
 import com.codeus.winter.test.BeanB;
 import com.codeus.winter.test.BeanC;
@@ -17,7 +21,9 @@ import com.codeus.winter.test.BeanWithMultipleInjectionCandidates;
 import com.codeus.winter.test.BeanWithNonAnnotatedAndDefaultConstructors;
 import com.codeus.winter.test.BeanWithNonAnnotatedConstructors;
 import com.codeus.winter.test.BeanWithPrivateConstructor;
+import com.codeus.winter.test.BeanWithProviders;
 import com.codeus.winter.test.BeanWithQualifierAnnotation;
+import com.codeus.winter.test.BeanWithRawProvider;
 import com.codeus.winter.test.BeanWithSelfInjection;
 import com.codeus.winter.test.BeansWithCyclicDependency;
 import com.codeus.winter.test.Common;
@@ -26,17 +32,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.codeus.winter.test.MockHelper.prototypeBeanDefinitionMock;
 import static com.codeus.winter.test.MockHelper.singletonBeanDefinitionMock;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,6 +66,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -167,6 +190,27 @@ class DefaultBeanFactoryTest {
         assertEquals(beanA, beanB.getBeanA());
     }
 
+    @Test
+    @DisplayName("Should initialize a 2000 beans deep dependency chain without nesting bean creation")
+    void testInitializeDeepDependencyChain() {
+        int chainLength = 2000;
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        for (int i = chainLength - 1; i >= 0; i--) {
+            BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+            beanDefinition.setBeanClass(BeanA.class);
+            if (i > 0) {
+                beanDefinition.setDependsOn("bean" + (i - 1));
+            }
+            factory.registerBeanDefinition("bean" + i, beanDefinition);
+        }
+
+        factory.initializeBeans();
+
+        for (int i = 0; i < chainLength; i++) {
+            assertInstanceOf(BeanA.class, factory.getBean("bean" + i));
+        }
+    }
+
     @Test
     @DisplayName("Should initialize bean with dependencies using declared non-annotated constructor " +
             "and ignoring default one")
@@ -254,6 +298,74 @@ class DefaultBeanFactoryTest {
                 .formatted(BeanWithNonAnnotatedConstructors.class.getName()));
     }
 
+    @Test
+    @DisplayName("Should skip lazy singletons on initialization and inject a proxy creating them on first use")
+    void testInitializeBeansWithLazySingleton() {
+        when(beanDefinitionA.isLazyInit()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanWithDependencyByInterface",
+                singletonBeanDefinitionMock(BeanWithDependencyByInterface.class));
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<String> createdBeanNames = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                createdBeanNames.add(beanName);
+                return bean;
+            }
+        });
+        factory.initializeBeans();
+
+        assertEquals(List.of("BeanWithDependencyByInterface"), createdBeanNames);
+        Common lazyBean = factory.getBean(BeanWithDependencyByInterface.class).getWrappeeBean();
+        assertTrue(Proxy.isProxyClass(lazyBean.getClass()));
+
+        String lazyBeanDescription = lazyBean.toString();
+        assertEquals(List.of("BeanWithDependencyByInterface", "BeanA"), createdBeanNames);
+        assertEquals(factory.getBean("BeanA").toString(), lazyBeanDescription);
+    }
+
+    @Test
+    @DisplayName("Should await an async initialization before a lazy proxy calls the bean")
+    void testLazyProxyAwaitsAsyncInitialization() {
+        when(beanDefinitionA.isLazyInit()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanWithDependencyByInterface",
+                singletonBeanDefinitionMock(BeanWithDependencyByInterface.class));
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        factory.initializeBeans();
+        Common lazyBean = factory.getBean(BeanWithDependencyByInterface.class).getWrappeeBean();
+        CompletableFuture<Void> initialization = new CompletableFuture<>();
+        factory.registerAsyncInitialization("BeanA", initialization);
+        initialization.completeExceptionally(new IllegalStateException("Reference data unavailable"));
+
+        assertTrue(Proxy.isProxyClass(lazyBean.getClass()));
+        assertThrows(BeanFactoryException.class, lazyBean::toString);
+    }
+
+    @Test
+    @DisplayName("Should skip lazy singletons on parallel initialization and create them on first retrieval")
+    void testInitializeBeansInParallelWithLazySingleton() {
+        when(beanDefinitionA.isLazyInit()).thenReturn(true);
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA, "BeanE", beanDefinitionE));
+        List<String> createdBeanNames = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                createdBeanNames.add(beanName);
+                return bean;
+            }
+        });
+        factory.initializeBeans(ForkJoinPool.commonPool());
+
+        assertEquals(List.of("BeanE"), createdBeanNames);
+        BeanA beanA = factory.getBean(BeanA.class);
+        assertSame(beanA, factory.getBean("BeanA"));
+        assertEquals(List.of("BeanE", "BeanA"), createdBeanNames);
+    }
+
     @Test
     @DisplayName("Should autowire Bean dependency by interface type")
     void testInitializeBeansDependenciesByInterface() {
@@ -307,7 +419,217 @@ class DefaultBeanFactoryTest {
         beanDefinitionMap.put("BeanTwo", beanDefinitionTwo);
         DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
 
-        assertThrows(BeanCurrentlyInCreationException.class, factory::initializeBeans);
+        BeanCurrentlyInCreationException exception =
+                assertThrows(BeanCurrentlyInCreationException.class, factory::initializeBeans);
+        assertEquals("Bean BeanOne is currently in creation. Cyclic dependency: BeanOne -> BeanTwo -> BeanOne",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should create beans in dependency order without creating dependencies on demand")
+    void testInitializeBeansInDependencyOrder() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanC", beanDefinitionC);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        BufferingStartupRecorder startupRecorder = new BufferingStartupRecorder(100);
+        factory.setStartupRecorder(startupRecorder);
+        factory.initializeBeans();
+
+        List<RecordedStep> steps = startupRecorder.getRecordedSteps();
+        Map<Long, String> stepNames = new HashMap<>();
+        steps.forEach(step -> stepNames.put(step.id(), step.name()));
+        List<String> createdBeanNames = new ArrayList<>();
+        for (RecordedStep step : steps) {
+            if (step.name().equals("winter.bean.create")) {
+                assertEquals("winter.bean.initialize", stepNames.get(step.parentId()));
+                createdBeanNames.add(step.tags().get("beanName"));
+            }
+        }
+        assertEquals(List.of("BeanA", "BeanB", "BeanC"), createdBeanNames);
+    }
+
+    @Test
+    @DisplayName("Should apply only the post processors that apply to the bean class")
+    void testApplyPostProcessorsThatApplyToBeanClass() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<Class<?>> checkedClasses = new CopyOnWriteArrayList<>();
+        List<String> processedBeanNames = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public boolean appliesTo(Class<?> beanClass) {
+                checkedClasses.add(beanClass);
+                return beanClass == BeanA.class;
+            }
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                processedBeanNames.add(beanName);
+                return bean;
+            }
+        });
+
+        factory.initializeBeans();
+        factory.getBean("BeanE", BeanE.class);
+
+        assertEquals(List.of("BeanA"), processedBeanNames);
+        assertEquals(List.of(BeanA.class, BeanE.class), checkedClasses);
+    }
+
+    @Test
+    @DisplayName("Should pass the bean returned by a post processor to the next one")
+    void testChainPostProcessorResults() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        BeanA replacement = new BeanA();
+        List<Object> afterInitializationBeans = new ArrayList<>();
+        factory.addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                return replacement;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                afterInitializationBeans.add(bean);
+                return bean;
+            }
+        });
+
+        assertSame(replacement, factory.getBean(BeanA.class));
+        assertEquals(List.of(replacement), afterInitializationBeans);
+    }
+
+    @Test
+    @DisplayName("Should fail dependents and the barrier when an async initialization fails")
+    void testFailedAsyncInitialization() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        CompletableFuture<Void> initialization = new CompletableFuture<>();
+        factory.registerAsyncInitialization("BeanA", initialization);
+        initialization.completeExceptionally(new IllegalStateException("Reference data unavailable"));
+
+        assertNotNull(factory.getBean(BeanA.class));
+        assertThrows(BeanFactoryException.class, () -> factory.getBean(BeanB.class));
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                factory::awaitAsyncInitializations);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        factory.awaitAsyncInitializations();
+    }
+
+    @Test
+    @DisplayName("Should await an async initialization before a provider returns the bean")
+    void testProviderAwaitsAsyncInitialization() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        factory.registerBeanDefinition("BeanA", beanDefinitionA);
+        CompletableFuture<Void> initialization = new CompletableFuture<>();
+        factory.registerAsyncInitialization("BeanA", initialization);
+        initialization.completeExceptionally(new IllegalStateException("Reference data unavailable"));
+        ObjectProvider<BeanA> provider = factory.getBeanProvider(BeanA.class);
+
+        assertThrows(BeanFactoryException.class, provider::getObject);
+        assertThrows(BeanFactoryException.class, provider::getIfAvailable);
+    }
+
+    @Test
+    @DisplayName("Should destroy singletons in reverse dependency order")
+    void testDestroySingletonsInReverseDependencyOrder() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        beanDefinitionMap.put("BeanC", beanDefinitionC);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor(new DestructionBeanPostProcessor() {
+            @Override
+            public void postProcessBeforeDestruction(Object bean, String beanName) {
+                destroyedBeanNames.add(beanName);
+            }
+
+            @Override
+            public boolean requiresDestruction(Object bean) {
+                return !(bean instanceof BeanB);
+            }
+        });
+        factory.initializeBeans();
+        BeanA beanA = factory.getBean(BeanA.class);
+
+        factory.destroySingletons(Duration.ofSeconds(5));
+
+        assertEquals(List.of("BeanC", "BeanA"), destroyedBeanNames);
+        assertNotSame(beanA, factory.getBean(BeanA.class));
+    }
+
+    @Test
+    @DisplayName("Should order beans by dependsOn class names and ignore names of classes that are not beans")
+    void testDestroySingletonsInDependsOnClassOrder() {
+        BeanDefinitionImpl dependentDefinition = new BeanDefinitionImpl();
+        dependentDefinition.setBeanClassName(BeanA.class.getName());
+        dependentDefinition.setDependsOn(BeanE.class.getName(), "com.codeus.winter.test.MissingBean", "java.util.List");
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        beanDefinitionMap.put("dependent", dependentDefinition);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor((DestructionBeanPostProcessor) (bean, beanName) ->
+                destroyedBeanNames.add(beanName));
+        factory.initializeBeans();
+
+        factory.destroySingletons(Duration.ofSeconds(5));
+
+        assertEquals(List.of("dependent", "BeanE"), destroyedBeanNames);
+    }
+
+    @Test
+    @DisplayName("Should keep registered singletons after destroying singletons")
+    void testDestroySingletonsKeepsRegisteredSingletons() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        factory.registerBeanDefinition("BeanA", beanDefinitionA);
+        BeanE registeredBean = new BeanE();
+        factory.registerBean("BeanE", beanDefinitionE, registeredBean);
+        BeanA createdBean = factory.getBean(BeanA.class);
+
+        factory.destroySingletons(Duration.ofSeconds(5));
+
+        assertSame(registeredBean, factory.getBean("BeanE"));
+        assertNotSame(createdBean, factory.getBean("BeanA"));
+    }
+
+    @Test
+    @DisplayName("Should give up destroying a bean after the timeout")
+    void testDestroySingletonsWithTimeout() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        factory.addBeanPostProcessor((DestructionBeanPostProcessor) (bean, beanName) -> {
+            if (bean instanceof BeanE) {
+                try {
+                    neverReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                destroyedBeanNames.add(beanName);
+            }
+        });
+        factory.initializeBeans();
+
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                () -> factory.destroySingletons(Duration.ofMillis(50)));
+
+        assertEquals(List.of("BeanA"), destroyedBeanNames);
+        assertEquals(1, exception.getSuppressed().length);
+        assertTrue(exception.getSuppressed()[0].getMessage().contains("BeanE"));
     }
 
     @Test
@@ -342,6 +664,24 @@ class DefaultBeanFactoryTest {
                         .formatted(Common.class, BeanA.class, BeanE.class));
     }
 
+    @Test
+    @DisplayName("Should report an ambiguous dependency before creating beans in parallel")
+    void testFailInitializeBeansInParallelIfMultipleNonQualifiedCandidatesAvailable() {
+        BeanDefinition beanDefinition = singletonBeanDefinitionMock(BeanWithDependencyByInterface.class);
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanWithDependencyByInterface", beanDefinition);
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        NotUniqueBeanDefinitionException exception = assertThrows(NotUniqueBeanDefinitionException.class,
+                () -> factory.initializeBeans(ForkJoinPool.commonPool()));
+
+        assertEquals("Cannot resolve bean for type='%s', multiple beans are available: %s, %s"
+                .formatted(Common.class.getName(), BeanA.class.getName(), BeanE.class.getName()),
+                exception.getMessage());
+    }
+
     @Test
     @DisplayName("Should throw exception when bean definitions does not contain dependency bean")
     void testThrowExceptionWhenBeanDefinitionsDoesNotContainDependencyBean() {
@@ -454,6 +794,70 @@ class DefaultBeanFactoryTest {
         assertEquals("Bean for type=%s not found".formatted(BeanA.class.getName()), exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should find beans by name and type without throwing on a miss")
+    void testFindBean() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA));
+        factory.initializeBeans();
+
+        assertSame(factory.getBean("BeanA"), factory.findBean("BeanA").orElseThrow());
+        assertSame(factory.getBean(BeanA.class), factory.findBean(BeanA.class).orElseThrow());
+        assertTrue(factory.findBean("BeanB").isEmpty());
+        assertTrue(factory.findBean(BeanB.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should provide a bean registered after the provider was obtained")
+    void testGetBeanProvider() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        ObjectProvider<BeanA> provider = factory.getBeanProvider(BeanA.class);
+
+        assertNull(provider.getIfAvailable());
+        assertTrue(provider.findObject().isEmpty());
+        assertThrows(BeanNotFoundException.class, provider::getObject);
+
+        factory.registerBeanDefinition("BeanA", beanDefinitionA);
+        BeanA bean = provider.getObject();
+        assertSame(bean, provider.getIfAvailable());
+        assertSame(bean, factory.getBean(BeanA.class));
+    }
+
+    @Test
+    @DisplayName("Should throw lookup exceptions without a stack trace when disabled")
+    void testGetBeanWithoutLookupStackTraces() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        assertNotEquals(0, assertThrows(BeanNotFoundException.class,
+                () -> factory.getBean("BeanA")).getStackTrace().length);
+
+        factory.setLookupStackTraces(false);
+        BeanNotFoundException byName = assertThrows(BeanNotFoundException.class, () -> factory.getBean("BeanA"));
+        BeanNotFoundException byType = assertThrows(BeanNotFoundException.class, () -> factory.getBean(BeanA.class));
+
+        assertEquals("Bean for name='BeanA' not found", byName.getMessage());
+        assertEquals(0, byName.getStackTrace().length);
+        assertEquals(0, byType.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Should throw dependency resolution exceptions without a stack trace when disabled")
+    void testResolveDependencyWithoutLookupStackTraces() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        factory.setLookupStackTraces(false);
+        DependencyDescriptor single = new DependencyDescriptor(Common.class);
+        DependencyDescriptor collection =
+                new DependencyDescriptor(DependencyDescriptor.parameterizedType(List.class, Common.class));
+
+        assertEquals(0, assertThrows(BeanNotFoundException.class,
+                () -> factory.resolveDependency(single)).getStackTrace().length);
+        assertEquals(0, assertThrows(BeanNotFoundException.class,
+                () -> factory.resolveDependency(collection)).getStackTrace().length);
+
+        factory.registerBeanDefinition("BeanA", beanDefinitionA);
+        factory.registerBeanDefinition("BeanE", beanDefinitionE);
+        assertEquals(0, assertThrows(NotUniqueBeanDefinitionException.class,
+                () -> factory.resolveDependency(single)).getStackTrace().length);
+    }
+
     @Test
     @DisplayName("Should register singleton bean")
     void testRegisterSingletonBean() {
@@ -470,6 +874,28 @@ class DefaultBeanFactoryTest {
         assertEquals(BeanA.class, beanA.getClass());
     }
 
+    @Test
+    @DisplayName("Should resolve registered bean instance by its interface type")
+    void testRegisterBeanIsResolvableByInterfaceType() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        BeanA beanA = new BeanA();
+        beanFactory.registerBean("BeanA", beanDefinitionA, beanA);
+
+        assertSame(beanA, beanFactory.getBean(Common.class));
+    }
+
+    @Test
+    @DisplayName("Should not resolve a bean by the type of a replaced bean definition")
+    void testRegisterBeanReplacesIndexedCandidate() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("common", beanDefinitionA);
+        BeanE beanE = new BeanE();
+        beanFactory.registerBean("common", beanDefinitionE, beanE);
+
+        assertSame(beanE, beanFactory.getBean(Common.class));
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBean(BeanA.class));
+    }
+
     @Test
     @DisplayName("Should create a prototype-scoped bean for given not-annotated class")
     void testCreateBean() {
@@ -507,6 +933,180 @@ class DefaultBeanFactoryTest {
         assertNotSame(prototypeBean1.getBeanA(), prototypeBean2.getBeanA());
     }
 
+    @Test
+    @DisplayName("Should re-resolve singleton dependencies of prototypes after a bean definition was registered")
+    void testCreateBeanAfterDefinitionsChanged() {
+        BeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        BeanB prototypeBean1 = beanFactory.createBean(BeanB.class);
+
+        BeanDefinition primaryBeanDefinition = singletonBeanDefinitionMock(BeanA.class);
+        when(primaryBeanDefinition.isPrimary()).thenReturn(true);
+        beanFactory.registerBeanDefinition("primaryBeanA", primaryBeanDefinition);
+        BeanB prototypeBean2 = beanFactory.createBean(BeanB.class);
+
+        assertSame(beanFactory.getBean("BeanA"), prototypeBean1.getBeanA());
+        assertSame(beanFactory.getBean("primaryBeanA"), prototypeBean2.getBeanA());
+    }
+
+    @Test
+    @DisplayName("Should resolve a collection injection point again after a bean definition was registered")
+    void testResolveCollectionDependencyAfterDefinitionsChanged() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        DependencyDescriptor descriptor =
+                new DependencyDescriptor("commons", DependencyDescriptor.parameterizedType(List.class, Common.class))
+                        .reusable();
+
+        Object firstDependency = beanFactory.resolveDependency(descriptor);
+        Object secondDependency = beanFactory.resolveDependency(descriptor);
+        beanFactory.registerBeanDefinition("BeanE", beanDefinitionE);
+        Object thirdDependency = beanFactory.resolveDependency(descriptor);
+
+        BeanA beanA = beanFactory.getBean(BeanA.class);
+        assertEquals(List.of(beanA), firstDependency);
+        assertEquals(List.of(beanA), secondDependency);
+        assertEquals(List.of(beanA, beanFactory.getBean(BeanE.class)), thirdDependency);
+    }
+
+    @Test
+    @DisplayName("Should resolve a reusable descriptor once")
+    void testCacheReusableDependencyDescriptor() {
+        DefaultBeanFactory beanFactory = spy(new DefaultBeanFactory());
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        DependencyDescriptor descriptor =
+                new DependencyDescriptor("commons", DependencyDescriptor.parameterizedType(List.class, Common.class))
+                        .reusable();
+
+        Object firstDependency = beanFactory.resolveDependency(descriptor);
+        Object secondDependency = beanFactory.resolveDependency(descriptor);
+
+        assertEquals(firstDependency, secondDependency);
+        verify(beanFactory, times(1)).findCandidates(Common.class);
+    }
+
+    @Test
+    @DisplayName("Should not cache descriptors created per resolution")
+    void testNotCacheFreshDependencyDescriptors() {
+        DefaultBeanFactory beanFactory = spy(new DefaultBeanFactory());
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        Type dependencyType = DependencyDescriptor.parameterizedType(List.class, Common.class);
+
+        Object firstDependency = beanFactory.resolveDependency(new DependencyDescriptor("commons", dependencyType));
+        Object secondDependency = beanFactory.resolveDependency(new DependencyDescriptor("commons", dependencyType));
+
+        assertEquals(List.of(beanFactory.getBean(BeanA.class)), firstDependency);
+        assertEquals(firstDependency, secondDependency);
+        verify(beanFactory, times(2)).findCandidates(Common.class);
+    }
+
+    @Test
+    @DisplayName("Should keep qualified injection points with equal descriptors apart")
+    void testResolveQualifiedDependenciesWithEqualDescriptors() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        beanFactory.registerBeanDefinition("BeanE", beanDefinitionE);
+        DependencyDescriptor beanADescriptor = DependencyDescriptor.of("common", Common.class, "BeanA");
+        DependencyDescriptor beanEDescriptor = DependencyDescriptor.of("common", Common.class, "BeanE");
+
+        for (int i = 0; i < 2; i++) {
+            assertInstanceOf(BeanA.class, beanFactory.resolveDependency(beanADescriptor));
+            assertInstanceOf(BeanE.class, beanFactory.resolveDependency(beanEDescriptor));
+        }
+    }
+
+    @Test
+    @DisplayName("Should look up beans in the snapshot of a frozen factory")
+    void testFreeze() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory(beanDefinitionMap);
+        BeanA beanA = beanFactory.getBean(BeanA.class);
+
+        beanFactory.freeze();
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+
+        assertTrue(beanFactory.isFrozen());
+        assertSame(beanA, beanFactory.getBean("BeanA"));
+        assertSame(beanA, beanFactory.getBean(Common.class));
+        assertSame(beanA, beanFactory.getBean("BeanB", BeanB.class).getBeanA());
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBean("BeanE"));
+        assertThrows(BeanFactoryException.class, () -> beanFactory.registerBeanDefinition("BeanE", beanDefinitionE));
+        assertThrows(BeanFactoryException.class, () -> beanFactory.registerBean("BeanE", beanDefinitionE, new BeanE()));
+    }
+
+    @Test
+    @DisplayName("Should find beans added to the shared definitions map by name and by type")
+    void testFindBeansAddedToDefinitionsMap() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory(beanDefinitionMap);
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBean(BeanE.class));
+
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        BeanE beanE = beanFactory.getBean(BeanE.class);
+        beanFactory.freeze();
+
+        assertSame(beanE, beanFactory.getBean("BeanE"));
+        assertSame(beanE, beanFactory.getBean(BeanE.class));
+        assertEquals(2, ((List<?>) beanFactory.resolveDependency(
+                new DependencyDescriptor(DependencyDescriptor.parameterizedType(List.class, Common.class)))).size());
+    }
+
+    @Test
+    @DisplayName("Should retrieve beans through handles with dense bean IDs")
+    void testGetBeanHandle() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        beanFactory.registerBeanDefinition("prototypeBeanA", prototypeBeanDefinitionMock(BeanA.class));
+
+        BeanHandle<Common> singletonHandle = beanFactory.getBeanHandle("BeanA", Common.class);
+        BeanHandle<BeanA> prototypeHandle = beanFactory.getBeanHandle("prototypeBeanA", BeanA.class);
+
+        assertEquals(0, singletonHandle.getBeanId());
+        assertEquals(1, prototypeHandle.getBeanId());
+        assertEquals("BeanA", singletonHandle.getBeanName());
+        assertSame(beanFactory.getBean("BeanA"), singletonHandle.get());
+        assertSame(singletonHandle.get(), singletonHandle.get());
+        assertNotSame(prototypeHandle.get(), prototypeHandle.get());
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBeanHandle("BeanA", BeanB.class));
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBeanHandle("BeanB", BeanB.class));
+    }
+
+    @Test
+    @DisplayName("Should return the replacing bean from a handle obtained before the bean was replaced")
+    void testGetBeanHandleAfterRegisterBean() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        BeanHandle<BeanA> handle = beanFactory.getBeanHandle("BeanA", BeanA.class);
+        BeanA createdBean = handle.get();
+        BeanA replacingBean = new BeanA();
+
+        beanFactory.registerBean("BeanA", beanDefinitionA, replacingBean);
+
+        assertNotSame(createdBean, handle.get());
+        assertSame(replacingBean, handle.get());
+        assertEquals(0, beanFactory.getBeanHandle("BeanA", BeanA.class).getBeanId());
+    }
+
+    @Test
+    @DisplayName("Should retrieve a bean by type again after a primary bean definition was registered")
+    void testGetBeanByTypeAfterDefinitionsChanged() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        assertThrows(BeanNotFoundException.class, () -> beanFactory.getBean(Common.class));
+
+        beanFactory.registerBeanDefinition("BeanA", beanDefinitionA);
+        BeanA beanA = beanFactory.getBean(BeanA.class);
+        assertSame(beanA, beanFactory.getBean(Common.class));
+        assertSame(beanA, beanFactory.getBean(Common.class));
+
+        when(beanDefinitionE.isPrimary()).thenReturn(true);
+        beanFactory.registerBeanDefinition("BeanE", beanDefinitionE);
+        assertInstanceOf(BeanE.class, beanFactory.getBean(Common.class));
+        assertSame(beanA, beanFactory.getBean(BeanA.class));
+    }
+
     @Test
     @DisplayName("Should fail creating a prototype-scoped bean if cannot resolve one of the dependencies")
     void testCreateBeanFailWhenCannotResolveDependencies() {
@@ -667,6 +1267,47 @@ class DefaultBeanFactoryTest {
                 "Cannot resolve bean for type='%s', no bean definitions available".formatted(Common.class.getName()));
     }
 
+    @Test
+    @DisplayName("Should inject providers returning a new prototype on every call and a qualified singleton")
+    void testInjectProviders() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanWithProviders", singletonBeanDefinitionMock(BeanWithProviders.class));
+        beanDefinitionMap.put("BeanA", prototypeBeanDefinitionMock(BeanA.class));
+        beanDefinitionMap.put("BeanE", beanDefinitionE);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        factory.initializeBeans();
+
+        BeanWithProviders bean = factory.getBean(BeanWithProviders.class);
+        BeanA first = bean.getBeanAProvider().get();
+        BeanA second = bean.getBeanAProvider().get();
+        assertNotSame(first, second);
+        assertSame(factory.getBean("BeanE"), bean.getCommonProvider().getObject());
+        assertSame(bean.getCommonProvider().get(), bean.getCommonProvider().getIfAvailable());
+    }
+
+    @Test
+    @DisplayName("Should inject a provider of a bean registered after the injection")
+    void testInjectProviderOfLaterRegisteredBean() {
+        DefaultBeanFactory factory = new DefaultBeanFactory();
+        factory.registerBeanDefinition("BeanWithProviders", singletonBeanDefinitionMock(BeanWithProviders.class));
+        BeanWithProviders bean = factory.getBean(BeanWithProviders.class);
+
+        assertNull(bean.getCommonProvider().getIfAvailable());
+        assertThrows(BeanNotFoundException.class, () -> bean.getBeanAProvider().get());
+
+        factory.registerBeanDefinition("BeanA", beanDefinitionA);
+        assertSame(factory.getBean(BeanA.class), bean.getBeanAProvider().get());
+    }
+
+    @Test
+    @DisplayName("Should fail to inject a provider without the provided type")
+    void testFailInjectRawProvider() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(
+                Map.of("BeanWithRawProvider", singletonBeanDefinitionMock(BeanWithRawProvider.class)));
+
+        assertThrows(BeanFactoryException.class, factory::initializeBeans);
+    }
+
     @Test
     @DisplayName("Should return null for bean definition with the unsupported scope")
     void testFailInitializeBeanWithPrototypeScope() {
@@ -776,4 +1417,188 @@ class DefaultBeanFactoryTest {
                 () -> factory.getBean(BeanWithMultipleInjectionCandidates.class)
         );
     }
+
+    @Test
+    @DisplayName("Should create bean using registered bean instance supplier")
+    void testCreateBeanUsingBeanInstanceSupplier() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<BeanB> suppliedBeans = new ArrayList<>();
+        factory.registerBeanInstanceSupplier(new BeanInstanceSupplier<BeanB>() {
+            @Override
+            public Class<BeanB> getBeanClass() {
+                return BeanB.class;
+            }
+
+            @Override
+            public BeanB get(AbstractAutowireCapableBeanFactory beanFactory) {
+                BeanB beanB = new BeanB((BeanA) beanFactory.resolveDependency(
+                        DependencyDescriptor.of("beanA", BeanA.class, null)));
+                suppliedBeans.add(beanB);
+                return beanB;
+            }
+        });
+
+        BeanB beanB = factory.getBean(BeanB.class);
+
+        assertEquals(List.of(beanB), suppliedBeans);
+        assertSame(factory.getBean(BeanA.class), beanB.getBeanA());
+        assertSame(beanB, factory.getBean(BeanB.class));
+    }
+
+    @Test
+    @DisplayName("Should create singleton once when requested concurrently")
+    void testCreateSingletonOnceWhenRequestedConcurrently() throws Exception {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        beanDefinitionMap.put("BeanC", beanDefinitionC);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        List<BeanC> beans = getBeanConcurrently(factory, BeanC.class, 200);
+
+        BeanC beanC = factory.getBean(BeanC.class);
+        beans.forEach(bean -> assertSame(beanC, bean));
+        assertSame(factory.getBean(BeanA.class), beanC.getBeanA());
+        assertSame(factory.getBean(BeanB.class), beanC.getBeanB());
+    }
+
+    @Test
+    @DisplayName("Should fail instead of waiting forever when threads create cyclic dependencies concurrently")
+    void testFailOnCyclicDependenciesCreatedConcurrently() throws Exception {
+        BeanDefinition beanDefinitionOne = singletonBeanDefinitionMock(BeansWithCyclicDependency.BeanOne.class);
+        BeanDefinition beanDefinitionTwo = singletonBeanDefinitionMock(BeansWithCyclicDependency.BeanTwo.class);
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanOne", beanDefinitionOne);
+        beanDefinitionMap.put("BeanTwo", beanDefinitionTwo);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Class<?> beanClass = i % 2 == 0
+                        ? BeansWithCyclicDependency.BeanOne.class
+                        : BeansWithCyclicDependency.BeanTwo.class;
+                futures.add(executor.submit(() -> factory.getBean(beanClass)));
+            }
+
+            for (Future<?> future : futures) {
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                        () -> future.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(BeanCurrentlyInCreationException.class, exception.getCause());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should initialize beans in parallel in dependency order")
+    void testInitializeBeansInParallel() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanC", beanDefinitionC);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanD", beanDefinitionD);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        List<String> createdBeans = new CopyOnWriteArrayList<>();
+        factory.addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                createdBeans.add(beanName);
+                return bean;
+            }
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            factory.initializeBeans(executor);
+        }
+
+        assertEquals(Set.of("BeanA", "BeanB", "BeanC", "BeanD"), Set.copyOf(createdBeans));
+        assertEquals(4, createdBeans.size());
+        assertTrue(createdBeans.indexOf("BeanA") < createdBeans.indexOf("BeanB"));
+        assertTrue(createdBeans.indexOf("BeanB") < createdBeans.indexOf("BeanC"));
+        BeanC beanC = factory.getBean(BeanC.class);
+        assertSame(factory.getBean(BeanB.class), beanC.getBeanB());
+        assertSame(factory.getBean(BeanA.class), beanC.getBeanA());
+    }
+
+    @Test
+    @DisplayName("Should throw failure of the first registered bean when beans fail in parallel")
+    void testInitializeBeansInParallelThrowsFirstFailure() {
+        BeanDefinition beanDefinitionWithoutClass = mock(BeanDefinition.class);
+        when(beanDefinitionWithoutClass.isSingleton()).thenReturn(true);
+        when(beanDefinitionA.getBeanClassName()).thenReturn(null);
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanWithoutClass", beanDefinitionWithoutClass);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                () -> factory.initializeBeans(ForkJoinPool.commonPool()));
+
+        assertEquals("Bean class name is not set for bean: BeanA", exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+        assertEquals("Bean class name is not set for bean: BeanWithoutClass",
+                exception.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report cyclic dependencies when initializing beans in parallel")
+    void testInitializeBeansInParallelFailsOnCyclicDependencies() {
+        BeanDefinition beanDefinitionOne = singletonBeanDefinitionMock(BeansWithCyclicDependency.BeanOne.class);
+        when(beanDefinitionOne.getDependsOn())
+                .thenReturn(new String[]{BeansWithCyclicDependency.BeanTwo.class.getName()});
+        BeanDefinition beanDefinitionTwo = singletonBeanDefinitionMock(BeansWithCyclicDependency.BeanTwo.class);
+        when(beanDefinitionTwo.getDependsOn())
+                .thenReturn(new String[]{BeansWithCyclicDependency.BeanOne.class.getName()});
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanOne", beanDefinitionOne);
+        beanDefinitionMap.put("BeanTwo", beanDefinitionTwo);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        assertThrows(BeanCurrentlyInCreationException.class,
+                () -> factory.initializeBeans(ForkJoinPool.commonPool()));
+        assertNotNull(factory.getBean(BeanA.class));
+    }
+
+    @Test
+    @DisplayName("Should create beans using the configured instantiation strategy")
+    void testCreateBeansUsingInstantiationStrategy() {
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("BeanA", beanDefinitionA);
+        beanDefinitionMap.put("BeanB", beanDefinitionB);
+        beanDefinitionMap.put("BeanC", beanDefinitionC);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+        factory.setInstantiationStrategy(new MethodHandleInstantiationStrategy());
+
+        BeanC beanC = factory.getBean(BeanC.class);
+        BeanA prototype = factory.createBean(BeanA.class);
+
+        assertSame(factory.getBean(BeanA.class), beanC.getBeanA());
+        assertSame(factory.getBean(BeanB.class), beanC.getBeanB());
+        assertNotSame(beanC.getBeanA(), prototype);
+    }
+
+    private static <T> List<T> getBeanConcurrently(DefaultBeanFactory factory, Class<T> beanClass, int threads)
+            throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return factory.getBean(beanClass);
+                }));
+            }
+            startSignal.countDown();
+
+            List<T> beans = new ArrayList<>();
+            for (Future<T> future : futures) {
+                beans.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return beans;
+        }
+    }
 }
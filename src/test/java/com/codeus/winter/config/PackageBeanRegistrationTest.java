@@ -7,12 +7,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.codeus.winter.config.impl.BeanDefinitionRegistryImpl;
+import com.codeus.winter.config.indexed.IndexedComponent;
+import com.codeus.winter.config.test.inner.AutowiredComponent;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 /**
  * Unit tests for {@link PackageBeanRegistration}. These tests verify the behavior of the bean
  * registration process, including handling annotated classes, duplicate bean names, and empty
@@ -53,6 +58,40 @@ class PackageBeanRegistrationTest {
         assertEquals("init", definition.getInitMethodName());
         // destroy method name
         assertEquals("destroy", definition.getDestroyMethodName());
+        assertFalse(definition.isLazyInit());
+    }
+
+    @Test
+    void shouldRegisterLazyBeans() {
+        beanRegistration.registerBeans("com.codeus.winter.config.test.inner");
+
+        BeanDefinition definition = registry.getBeanDefinition("autowiredComponent");
+        assertNotNull(definition);
+        assertTrue(definition.isLazyInit());
+        assertTrue(definition.isSingleton());
+    }
+
+    @Test
+    void shouldRegisterBeansFromComponentIndex() {
+        beanRegistration.registerBeans("com.codeus.winter.config.indexed");
+
+        BeanDefinition definition = registry.getBeanDefinition("indexedComponent");
+        assertNotNull(definition);
+        assertEquals("com.codeus.winter.config.indexed.IndexedComponent", definition.getBeanClassName());
+        assertEquals(SCOPE_PROTOTYPE, definition.getScope());
+        assertTrue(definition.isPrimary());
+        assertTrue(definition.isLazyInit());
+        assertArrayEquals(new String[]{"com.codeus.winter.test.BeanA"}, definition.getDependsOn());
+        assertEquals("init", definition.getInitMethodName());
+        assertNull(definition.getDestroyMethodName());
+    }
+
+    @Test
+    void shouldRememberEventListenerBeans() {
+        beanRegistration.registerBeans("com.codeus.winter.config.test.inner", "com.codeus.winter.config.indexed");
+
+        assertEquals(Map.of("autowiredComponent", AutowiredComponent.class, "indexedComponent", IndexedComponent.class),
+            beanRegistration.getEventListenerBeans());
     }
 
     @Test
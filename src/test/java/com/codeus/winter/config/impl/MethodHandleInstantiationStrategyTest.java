@@ -0,0 +1,82 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.test.BeanA;
+import com.codeus.winter.test.BeanB;
+import com.codeus.winter.test.BeanC;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodHandleInstantiationStrategyTest {
+
+    private final MethodHandleInstantiationStrategy strategy = new MethodHandleInstantiationStrategy();
+
+    @Test
+    @DisplayName("Should create beans with the default constructor")
+    void testInstantiateWithDefaultConstructor() throws NoSuchMethodException {
+        BeanA first = strategy.instantiate(BeanA.class.getConstructor());
+        BeanA second = strategy.instantiate(BeanA.class.getConstructor());
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should create beans with constructor arguments")
+    void testInstantiateWithConstructorArguments() throws NoSuchMethodException {
+        BeanA beanA = new BeanA();
+        BeanB beanB = new BeanB(beanA);
+
+        BeanC beanC = strategy.instantiate(BeanC.class.getConstructor(BeanA.class, BeanB.class), beanA, beanB);
+
+        assertSame(beanA, beanC.getBeanA());
+        assertSame(beanB, beanC.getBeanB());
+    }
+
+    @Test
+    @DisplayName("Should wrap exceptions thrown by the constructor")
+    void testWrapConstructorExceptions() throws NoSuchMethodException {
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                () -> strategy.instantiate(FailingBean.class.getConstructor()));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should inject private fields and call methods with multiple arguments")
+    void testInjectFieldAndInvokeMethod() throws NoSuchFieldException, NoSuchMethodException {
+        InjectedBean bean = new InjectedBean();
+        Field field = InjectedBean.class.getDeclaredField("name");
+        Method method = InjectedBean.class.getDeclaredMethod("setValues", String.class, int.class);
+
+        strategy.inject(field, bean, "winter");
+        strategy.invoke(method, bean, "cold", 3);
+
+        assertEquals("winter", bean.name);
+        assertEquals("cold3", bean.values);
+    }
+
+    public static class FailingBean {
+        public FailingBean() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class InjectedBean {
+        private String name;
+        private String values;
+
+        private void setValues(String value, int count) {
+            this.values = value + count;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeus.winter.config.indexed;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.PostConstruct;
+import com.codeus.winter.annotation.Primary;
+import com.codeus.winter.annotation.Scope;
+
+/**
+ * Mock component listed in the test component index.
+ */
+@Primary
+@Component
+@Scope("prototype")
+public class IndexedComponent {
+
+    @PostConstruct
+    public void init() {
+    }
+}
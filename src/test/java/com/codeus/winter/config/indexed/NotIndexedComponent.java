@@ -0,0 +1,10 @@
+package com.codeus.winter.config.indexed;
+
+import com.codeus.winter.annotation.Component;
+
+/**
+ * Mock component deliberately missing from the test component index.
+ */
+@Component
+public class NotIndexedComponent {
+}
@@ -1,10 +1,17 @@
 package com.codeus.winter.config.test.inner;
 
 import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.EventListener;
+import com.codeus.winter.annotation.Lazy;
 
 @Component
+@Lazy
 public class AutowiredComponent {
 
     public AutowiredComponent() {
     }
+
+    @EventListener
+    public void onEvent(Object event) {
+    }
 }
@@ -1,15 +1,39 @@
 package com.codeus.winter.context;
 
+import com.codeus.winter.config.BeanHandle;
+import com.codeus.winter.context.async.ReferenceDataBean;
+import com.codeus.winter.context.async.ReferenceDataClient;
+import com.codeus.winter.context.event.OrderListener;
+import com.codeus.winter.context.event.OrderPlaced;
+import com.codeus.winter.context.event.OrderService;
 import com.codeus.winter.context.test.ComplexBean;
 import com.codeus.winter.context.test.SimpleBean;
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.metrics.BufferingStartupRecorder;
+import com.codeus.winter.metrics.RecordedStep;
 import com.codeus.winter.test.BeanA;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static com.codeus.winter.test.MockHelper.singletonBeanDefinitionMock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AnnotationApplicationContextTest {
@@ -26,6 +50,143 @@ class AnnotationApplicationContextTest {
         assertNotNull(simpleBean);
     }
 
+    @Test
+    @DisplayName("should eagerly create beans in parallel on refresh with a bootstrap executor")
+    void shouldCreateBeansInParallelOnRefresh() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            context.setBootstrapExecutor(executor);
+            context.refresh();
+        }
+
+        ComplexBean complexBean = context.getBean(ComplexBean.class);
+        assertSame(context.getBean(SimpleBean.class), complexBean.getDependency());
+    }
+
+    @Test
+    @DisplayName("should run async init methods in the background and await them on refresh")
+    void shouldAwaitAsyncInitMethodsOnRefresh() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.async");
+
+        context.refresh();
+
+        ReferenceDataBean referenceData = context.getBean(ReferenceDataBean.class);
+        assertTrue(referenceData.isLoaded());
+        assertEquals(List.of("DE", "FR", "UA"), referenceData.getCountryCodes());
+        assertTrue(referenceData.getLoadingThreadName().startsWith("winter-async-init-"));
+        assertTrue(context.getBean(ReferenceDataClient.class).isReferenceDataLoaded());
+    }
+
+    @Test
+    @DisplayName("should deliver published events to the event listeners of components")
+    void shouldDeliverEventsToListeners() throws InterruptedException {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.event");
+        context.refresh();
+        OrderListener orderListener = context.getBean(OrderListener.class);
+
+        context.getBean(OrderService.class).placeOrder("42");
+        context.publishEvent("not an order");
+
+        assertEquals(List.of("42"), orderListener.getPlacedOrderIds());
+        assertTrue(orderListener.getAuditedEvents().await(5, TimeUnit.SECONDS));
+        assertTrue(orderListener.getAuditThreadName().startsWith("winter-event-"));
+        assertSame(context.getBean(AnnotationApplicationContext.EVENT_PUBLISHER_BEAN_NAME),
+                context.getBean(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("should deliver the pending event batch on close")
+    void shouldDeliverPendingEventBatchOnClose() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.event");
+        context.refresh();
+        OrderListener orderListener = context.getBean(OrderListener.class);
+        OrderService orderService = context.getBean(OrderService.class);
+
+        orderService.placeOrder("1");
+        orderService.placeOrder("2");
+        assertTrue(orderListener.getOrderBatches().isEmpty());
+        context.close();
+
+        assertEquals(List.of(List.of(new OrderPlaced("1"), new OrderPlaced("2"))), orderListener.getOrderBatches());
+    }
+
+    @Test
+    @DisplayName("should destroy the singletons once on close")
+    void shouldDestroySingletonsOnClose() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+        context.registerShutdownHook();
+        SimpleBean simpleBean = context.getBean(SimpleBean.class);
+
+        context.close();
+
+        assertTrue(simpleBean.isDestroyed());
+        assertTrue(context.isClosed());
+        assertNotSame(simpleBean, context.getBean(SimpleBean.class));
+        context.close();
+        assertFalse(context.getBean(SimpleBean.class).isDestroyed());
+    }
+
+    @Test
+    @DisplayName("should record the startup steps of the context and its beans")
+    void shouldRecordStartupSteps() {
+        var startupRecorder = new BufferingStartupRecorder(1000);
+        var context = new AnnotationApplicationContext(startupRecorder, "com.codeus.winter.context.test");
+
+        context.refresh();
+
+        List<RecordedStep> steps = startupRecorder.getRecordedSteps();
+        RecordedStep scan = findStep(steps, "winter.context.scan", Map.of());
+        RecordedStep refresh = findStep(steps, "winter.context.refresh", Map.of());
+        RecordedStep createComplexBean = findStep(steps, "winter.bean.create", Map.of("beanName", "complexBean"));
+        RecordedStep createSimpleBean = findStep(steps, "winter.bean.create", Map.of("beanName", "simpleBean"));
+        assertEquals("[com.codeus.winter.context.test]", scan.tags().get("basePackages"));
+        assertEquals(refresh.id(), (long) findStep(steps, "winter.beans.initialize", Map.of()).parentId());
+        assertNotNull(createComplexBean.parentId());
+        assertNotNull(createSimpleBean.parentId());
+        assertTrue(steps.stream().anyMatch(step -> step.name().equals("winter.bean.postProcess")
+                && Long.valueOf(createComplexBean.id()).equals(step.parentId())));
+        assertEquals(0, startupRecorder.getDroppedStepCount());
+    }
+
+    @Test
+    @DisplayName("should emit Flight Recorder events on refresh")
+    void shouldEmitFlightRecorderEvents() throws IOException {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+        Path recordingFile = Files.createTempFile("winter", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            List.of("com.codeus.winter.ContextRefresh", "com.codeus.winter.BeanInstantiation",
+                    "com.codeus.winter.BeanPostProcess", "com.codeus.winter.DependencyResolution")
+                    .forEach(recording::enable);
+            recording.start();
+            context.refresh();
+            recording.stop();
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("com.codeus.winter.ContextRefresh") && context.getId().equals(event.getString("contextId"))));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("com.codeus.winter.BeanInstantiation")
+                && ComplexBean.class.getName().equals(event.getString("beanClass"))));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("com.codeus.winter.BeanPostProcess") && "complexBean".equals(event.getString("beanName"))));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("com.codeus.winter.DependencyResolution")
+                && SimpleBean.class.getName().equals(event.getString("dependencyType"))));
+    }
+
+    private static RecordedStep findStep(List<RecordedStep> steps, String name, Map<String, String> tags) {
+        return steps.stream()
+                .filter(step -> step.name().equals(name) && step.tags().entrySet().containsAll(tags.entrySet()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No step " + name + " " + tags + " in " + steps));
+    }
+
     @Test
     @DisplayName("should delegate bean retrieval by name to the underlying BeanFactory")
     void shouldDelegateBeanRetrievalByNameToUnderlyingBeanFactory() {
@@ -42,6 +203,30 @@ class AnnotationApplicationContextTest {
         assertNotNull(context.getBean("simpleBean", SimpleBean.class));
     }
 
+    @Test
+    @DisplayName("should delegate bean handle retrieval to the underlying BeanFactory")
+    void shouldDelegateBeanHandleRetrievalToUnderlyingBeanFactory() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+
+        BeanHandle<SimpleBean> handle = context.getBeanHandle("simpleBean", SimpleBean.class);
+
+        assertEquals("simpleBean", handle.getBeanName());
+        assertSame(context.getBean(SimpleBean.class), handle.get());
+    }
+
+    @Test
+    @DisplayName("should delegate optional bean retrieval to the underlying BeanFactory")
+    void shouldDelegateOptionalBeanRetrievalToUnderlyingBeanFactory() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+
+        SimpleBean bean = context.getBean(SimpleBean.class);
+
+        assertSame(bean, context.findBean("simpleBean").orElseThrow());
+        assertSame(bean, context.findBean(SimpleBean.class).orElseThrow());
+        assertSame(bean, context.getBeanProvider(SimpleBean.class).getIfAvailable());
+        assertTrue(context.findBean("missingBean").isEmpty());
+    }
+
     @Test
     @DisplayName("should delegate prototype bean creation to the underlying BeanFactory")
     void shouldDelegatePrototypeBeanCreationToUnderlyingBeanFactory() {
@@ -69,6 +254,24 @@ class AnnotationApplicationContextTest {
         assertSame(beanFromContext, beanInstance);
     }
 
+    @Test
+    @DisplayName("should serve frozen singletons and reject late registration")
+    void shouldRejectRegistrationAfterFreeze() {
+        var context = new AnnotationApplicationContext("com.codeus.winter.context.test");
+        context.refresh();
+        SimpleBean simpleBean = context.getBean(SimpleBean.class);
+
+        context.freeze();
+
+        assertTrue(context.isFrozen());
+        assertSame(simpleBean, context.getBean("simpleBean"));
+        assertSame(simpleBean, context.getBean(ComplexBean.class).getDependency());
+        assertThrows(BeanFactoryException.class,
+                () -> context.registerBean("beanA", singletonBeanDefinitionMock(BeanA.class), new BeanA()));
+        assertThrows(BeanFactoryException.class,
+                () -> context.registerBeanDefinition("beanA", singletonBeanDefinitionMock(BeanA.class)));
+    }
+
     @Test
     @DisplayName("getId should return the default Application Context name")
     void getIdReturnsDefaultValue() {
@@ -0,0 +1,148 @@
+package com.codeus.winter.context;
+
+import com.codeus.winter.processor.ComponentIndexProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratedBeanInstanceSupplierTest {
+
+    private static final String ORDER_SERVICE = """
+            package com.codeus.winter.aot;
+            import com.codeus.winter.annotation.Autowired;
+            import com.codeus.winter.annotation.Component;
+            @Component
+            public class OrderService {
+                @Autowired Clock clock;
+                public Clock getClock() { return clock; }
+            }
+            """;
+
+    private static final String CLOCK = """
+            package com.codeus.winter.aot;
+            import com.codeus.winter.annotation.Component;
+            @Component
+            public class Clock { }
+            """;
+
+    private static final String APPLICATION = """
+            package com.codeus.winter.aot.app;
+            import com.codeus.winter.aot.OrderService;
+            import com.codeus.winter.context.AnnotationApplicationContext;
+            import com.codeus.winter.metrics.BufferingStartupRecorder;
+            import com.codeus.winter.metrics.RecordedStep;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.function.Supplier;
+            public class Application implements Supplier<Map<String, String>> {
+                @Override
+                public Map<String, String> get() {
+                    BufferingStartupRecorder startupRecorder = new BufferingStartupRecorder(1000);
+                    AnnotationApplicationContext context =
+                            new AnnotationApplicationContext(startupRecorder, "com.codeus.winter.aot");
+                    context.refresh();
+                    OrderService orderService = context.getBean(OrderService.class);
+                    List<RecordedStep> steps = startupRecorder.getRecordedSteps();
+                    long createStepId = steps.stream()
+                            .filter(step -> step.name().equals("winter.bean.create")
+                                    && "orderService".equals(step.tags().get("beanName")))
+                            .findFirst().orElseThrow().id();
+                    String instantiatedBy = steps.stream()
+                            .filter(step -> step.name().equals("winter.bean.instantiate")
+                                    && Long.valueOf(createStepId).equals(step.parentId()))
+                            .findFirst().orElseThrow().tags().get("instantiatedBy");
+                    return Map.of(
+                            "instantiatedBy", instantiatedBy,
+                            "clock", String.valueOf(orderService.getClock() == context.getBean("clock")));
+                }
+            }
+            """;
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    @DisplayName("should create and autowire components by suppliers generated with -Awinter.aot=true")
+    void shouldCreateComponentsByGeneratedSuppliers() throws Exception {
+        compile(List.of("-Awinter.aot=true", "-classpath", System.getProperty("java.class.path")));
+
+        assertEquals(Map.of("instantiatedBy", "supplier", "clock", "true"), runApplication());
+    }
+
+    @Test
+    @DisplayName("should create and autowire components reflectively without generated suppliers")
+    void shouldCreateComponentsReflectivelyWithoutGeneratedSuppliers() throws Exception {
+        compile(List.of("-classpath", System.getProperty("java.class.path")));
+
+        assertEquals(Map.of("instantiatedBy", "defaultConstructor", "clock", "true"), runApplication());
+    }
+
+    private void compile(List<String> options) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory.toFile()));
+            List<JavaFileObject> sources = List.of(
+                    new SourceFile("com/codeus/winter/aot/OrderService.java", ORDER_SERVICE),
+                    new SourceFile("com/codeus/winter/aot/Clock.java", CLOCK),
+                    new SourceFile("com/codeus/winter/aot/app/Application.java", APPLICATION));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, sources);
+            task.setProcessors(List.of(new ComponentIndexProcessor()));
+            assertTrue(task.call(), "Compilation should succeed");
+        }
+    }
+
+    /**
+     * Runs the compiled application in a class loader of its own, so that the context finds the generated
+     * component index and suppliers of the application on its classpath.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> runApplication() throws Exception {
+        List<URL> classpath = new ArrayList<>();
+        classpath.add(outputDirectory.toUri().toURL());
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            classpath.add(Path.of(entry).toUri().toURL());
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(classpath.toArray(URL[]::new),
+                ClassLoader.getPlatformClassLoader())) {
+            Class<?> applicationClass = classLoader.loadClass("com.codeus.winter.aot.app.Application");
+            return ((Supplier<Map<String, String>>) applicationClass.getConstructor().newInstance()).get();
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
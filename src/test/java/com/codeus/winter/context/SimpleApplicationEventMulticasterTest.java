@@ -0,0 +1,259 @@
+package com.codeus.winter.context;
+
+import com.codeus.winter.annotation.EventListener;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.exception.ApplicationContextException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeus.winter.test.MockHelper.singletonBeanDefinitionMock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleApplicationEventMulticasterTest {
+
+    private DefaultBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultBeanFactory();
+    }
+
+    @Test
+    void shouldInvokeListenersOfEventTypeAndSupertypes() {
+        RecordingListener listener = registerListener("recordingListener", new RecordingListener());
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+        multicaster.addListeners(beanFactory.getBeanHandle("recordingListener", Object.class), RecordingListener.class);
+
+        multicaster.publishEvent("created");
+        multicaster.publishEvent(42);
+
+        assertEquals(List.of("created"), listener.strings);
+        assertEquals(List.of("created", 42), listener.objects);
+    }
+
+    @Test
+    void shouldInvokeAsyncListenersOnExecutor() {
+        AsyncListener listener = registerListener("asyncListener", new AsyncListener());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(executor);
+            multicaster.addListeners(beanFactory.getBeanHandle("asyncListener", Object.class), AsyncListener.class);
+            multicaster.publishEvent("created");
+        }
+
+        assertEquals(1, listener.threads.size());
+        assertNotSame(Thread.currentThread(), listener.threads.getFirst());
+    }
+
+    @Test
+    void shouldDeliverQueuedEventsOfAsyncListenerInOneTask() {
+        RecordingAsyncListener listener = registerListener("asyncListener", new RecordingAsyncListener());
+        List<Runnable> heldTasks = new ArrayList<>();
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(heldTasks::add);
+        multicaster.addListeners(beanFactory.getBeanHandle("asyncListener", Object.class),
+                RecordingAsyncListener.class);
+
+        multicaster.publishEvent("created");
+        multicaster.publishEvent("updated");
+        multicaster.publishEvent("deleted");
+        assertEquals(1, heldTasks.size());
+        heldTasks.removeFirst().run();
+        multicaster.publishEvent("restored");
+
+        assertEquals(List.of("created", "updated", "deleted"), listener.events);
+        assertEquals(1, heldTasks.size());
+    }
+
+    @Test
+    void shouldPropagateExceptionOfSyncListener() {
+        registerListener("failingListener", new FailingListener());
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+        multicaster.addListeners(beanFactory.getBeanHandle("failingListener", Object.class), FailingListener.class);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> multicaster.publishEvent("created"));
+        assertEquals("created", exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectListenerWithoutEventParameter() {
+        registerListener("invalidListener", new InvalidListener());
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+
+        assertThrows(ApplicationContextException.class, () -> multicaster.addListeners(
+                beanFactory.getBeanHandle("invalidListener", Object.class), InvalidListener.class));
+    }
+
+    @Test
+    void shouldPickUpListenersAddedAfterPublishing() {
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+        multicaster.publishEvent("before");
+        RecordingListener listener = registerListener("recordingListener", new RecordingListener());
+
+        multicaster.addListeners(beanFactory.getBeanHandle("recordingListener", Object.class), RecordingListener.class);
+        multicaster.publishEvent("after");
+
+        assertEquals(List.of("after"), listener.strings);
+    }
+
+    @Test
+    void shouldDeliverFullBatches() {
+        BatchingListener listener = registerListener("batchingListener", new BatchingListener());
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+        multicaster.addListeners(beanFactory.getBeanHandle("batchingListener", Object.class), BatchingListener.class);
+
+        for (int i = 1; i <= 7; i++) {
+            multicaster.publishEvent("event" + i);
+        }
+        multicaster.publishEvent(42);
+
+        assertEquals(List.of(List.of("event1", "event2", "event3"), List.of("event4", "event5", "event6")),
+                listener.batches);
+        multicaster.close();
+        assertEquals(List.of("event7"), listener.batches.getLast());
+    }
+
+    @Test
+    void shouldDeliverBatchAfterTimeWindow() throws InterruptedException {
+        TimedBatchingListener listener = registerListener("timedListener", new TimedBatchingListener());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(executor);
+            multicaster.addListeners(beanFactory.getBeanHandle("timedListener", Object.class),
+                    TimedBatchingListener.class);
+            multicaster.publishEvent("created");
+            multicaster.publishEvent("updated");
+
+            assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(List.of("created", "updated")), listener.batches);
+            multicaster.close();
+        }
+    }
+
+    @Test
+    void shouldDeliverRemainingBatchesAfterFailure() {
+        FailingBatchingListener listener = registerListener("failingBatchingListener", new FailingBatchingListener());
+        List<Runnable> heldTasks = new ArrayList<>();
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(heldTasks::add);
+        multicaster.addListeners(beanFactory.getBeanHandle("failingBatchingListener", Object.class),
+                FailingBatchingListener.class);
+
+        for (int i = 1; i <= 5; i++) {
+            multicaster.publishEvent("event" + i);
+        }
+
+        ApplicationContextException exception = assertThrows(ApplicationContextException.class, multicaster::close);
+        assertEquals("event1", exception.getCause().getMessage());
+        assertEquals(List.of(List.of("event1", "event2"), List.of("event3", "event4"), List.of("event5")),
+                listener.batches);
+    }
+
+    @Test
+    void shouldRejectBatchingListenerWithoutBatchSize() {
+        registerListener("invalidBatchingListener", new InvalidBatchingListener());
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+
+        assertThrows(ApplicationContextException.class, () -> multicaster.addListeners(
+                beanFactory.getBeanHandle("invalidBatchingListener", Object.class), InvalidBatchingListener.class));
+    }
+
+    private <T> T registerListener(String beanName, T listener) {
+        beanFactory.registerBean(beanName, singletonBeanDefinitionMock(listener.getClass()), listener);
+        return listener;
+    }
+
+    static class RecordingListener {
+        private final List<String> strings = new CopyOnWriteArrayList<>();
+        private final List<Object> objects = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onString(String event) {
+            strings.add(event);
+        }
+
+        @EventListener
+        void onObject(Object event) {
+            objects.add(event);
+        }
+    }
+
+    static class AsyncListener {
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @EventListener(async = true)
+        void onEvent(String event) {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    static class RecordingAsyncListener {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @EventListener(async = true)
+        void onEvent(String event) {
+            events.add(event);
+        }
+    }
+
+    static class FailingListener {
+        @EventListener
+        void onEvent(String event) {
+            throw new IllegalStateException(event);
+        }
+    }
+
+    static class BatchingListener {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @EventListener(batchSize = 3, batchWindowMillis = 60_000)
+        void onEvents(List<String> events) {
+            batches.add(events);
+        }
+    }
+
+    static class TimedBatchingListener {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final CountDownLatch delivered = new CountDownLatch(1);
+
+        @EventListener(batchWindowMillis = 50)
+        void onEvents(List<String> events) {
+            batches.add(events);
+            delivered.countDown();
+        }
+    }
+
+    static class FailingBatchingListener {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @EventListener(batchSize = 2, batchWindowMillis = 60_000)
+        void onEvents(List<String> events) {
+            batches.add(events);
+            if (batches.size() == 1) {
+                throw new IllegalStateException(events.getFirst());
+            }
+        }
+    }
+
+    static class InvalidBatchingListener {
+        @EventListener(batchSize = 0)
+        void onEvents(List<String> events) {
+        }
+    }
+
+    static class InvalidListener {
+        @EventListener
+        void onEvent() {
+        }
+    }
+}
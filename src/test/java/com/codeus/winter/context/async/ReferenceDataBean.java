@@ -0,0 +1,38 @@
+package com.codeus.winter.context.async;
+
+import com.codeus.winter.annotation.AsyncInit;
+import com.codeus.winter.annotation.Autowired;
+import com.codeus.winter.annotation.Component;
+
+import java.util.List;
+
+@Component
+public class ReferenceDataBean {
+
+    @Autowired
+    private ReferenceDataRepository repository;
+
+    private volatile List<String> countryCodes;
+    private volatile boolean loaded;
+    private volatile String loadingThreadName;
+
+    @AsyncInit
+    public void load() throws InterruptedException {
+        Thread.sleep(20);
+        countryCodes = repository.findCountryCodes();
+        loadingThreadName = Thread.currentThread().getName();
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public List<String> getCountryCodes() {
+        return countryCodes;
+    }
+
+    public String getLoadingThreadName() {
+        return loadingThreadName;
+    }
+}
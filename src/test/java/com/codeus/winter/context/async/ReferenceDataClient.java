@@ -0,0 +1,17 @@
+package com.codeus.winter.context.async;
+
+import com.codeus.winter.annotation.Component;
+
+@Component
+public class ReferenceDataClient {
+
+    private final boolean referenceDataLoaded;
+
+    public ReferenceDataClient(ReferenceDataBean referenceData) {
+        this.referenceDataLoaded = referenceData.isLoaded();
+    }
+
+    public boolean isReferenceDataLoaded() {
+        return referenceDataLoaded;
+    }
+}
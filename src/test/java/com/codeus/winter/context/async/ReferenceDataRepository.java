@@ -0,0 +1,13 @@
+package com.codeus.winter.context.async;
+
+import com.codeus.winter.annotation.Component;
+
+import java.util.List;
+
+@Component
+public class ReferenceDataRepository {
+
+    public List<String> findCountryCodes() {
+        return List.of("DE", "FR", "UA");
+    }
+}
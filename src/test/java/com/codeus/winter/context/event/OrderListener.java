@@ -0,0 +1,49 @@
+package com.codeus.winter.context.event;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+@Component
+public class OrderListener {
+
+    private final List<String> placedOrderIds = new CopyOnWriteArrayList<>();
+    private final List<List<OrderPlaced>> orderBatches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch auditedEvents = new CountDownLatch(1);
+    private volatile String auditThreadName;
+
+    @EventListener
+    public void onOrderPlaced(OrderPlaced event) {
+        placedOrderIds.add(event.orderId());
+    }
+
+    @EventListener(batchSize = 10, batchWindowMillis = 60_000)
+    public void onOrderBatch(List<OrderPlaced> batch) {
+        orderBatches.add(batch);
+    }
+
+    @EventListener(async = true)
+    public void audit(Object event) {
+        auditThreadName = Thread.currentThread().getName();
+        auditedEvents.countDown();
+    }
+
+    public List<String> getPlacedOrderIds() {
+        return placedOrderIds;
+    }
+
+    public List<List<OrderPlaced>> getOrderBatches() {
+        return orderBatches;
+    }
+
+    public CountDownLatch getAuditedEvents() {
+        return auditedEvents;
+    }
+
+    public String getAuditThreadName() {
+        return auditThreadName;
+    }
+}
@@ -0,0 +1,4 @@
+package com.codeus.winter.context.event;
+
+public record OrderPlaced(String orderId) {
+}
@@ -0,0 +1,18 @@
+package com.codeus.winter.context.event;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.context.ApplicationEventPublisher;
+
+@Component
+public class OrderService {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderService(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void placeOrder(String orderId) {
+        eventPublisher.publishEvent(new OrderPlaced(orderId));
+    }
+}
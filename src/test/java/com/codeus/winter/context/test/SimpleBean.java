@@ -1,7 +1,19 @@
 package com.codeus.winter.context.test;
 
 import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.PreDestroy;
 
 @Component
 public class SimpleBean {
+
+    private volatile boolean destroyed;
+
+    @PreDestroy
+    public void destroy() {
+        destroyed = true;
+    }
+
+    public boolean isDestroyed() {
+        return destroyed;
+    }
 }
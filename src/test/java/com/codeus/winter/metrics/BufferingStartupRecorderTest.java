@@ -0,0 +1,98 @@
+package com.codeus.winter.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferingStartupRecorderTest {
+
+    @Test
+    @DisplayName("Should record nested steps with their parent, thread and tags")
+    void testRecordNestedSteps() {
+        BufferingStartupRecorder recorder = new BufferingStartupRecorder(10);
+
+        try (StartupStep parent = recorder.start("parent")) {
+            try (StartupStep child = recorder.start("child")) {
+                child.tag("beanName", "beanA");
+            }
+        }
+        try (StartupStep sibling = recorder.start("sibling")) {
+            assertNull(sibling.getParentId());
+        }
+
+        List<RecordedStep> steps = recorder.getRecordedSteps();
+        assertEquals(List.of("parent", "child", "sibling"), steps.stream().map(RecordedStep::name).toList());
+        RecordedStep parent = steps.get(0);
+        RecordedStep child = steps.get(1);
+        assertNull(parent.parentId());
+        assertEquals(parent.id(), (long) child.parentId());
+        assertEquals(Map.of("beanName", "beanA"), child.tags());
+        assertEquals(Thread.currentThread().getName(), child.threadName());
+        assertTrue(child.startNanos() >= parent.startNanos());
+        assertTrue(child.durationNanos() <= parent.durationNanos());
+        assertNull(steps.get(2).parentId());
+    }
+
+    @Test
+    @DisplayName("Should record a step started on another thread as a child of the given parent")
+    void testRecordStepWithParentFromAnotherThread() {
+        BufferingStartupRecorder recorder = new BufferingStartupRecorder(10);
+
+        try (StartupStep parent = recorder.start("parent")) {
+            CompletableFuture.runAsync(() -> {
+                try (StartupStep child = recorder.start("child", parent)) {
+                    try (StartupStep grandChild = recorder.start("grandChild")) {
+                        assertEquals(child.getId(), (long) grandChild.getParentId());
+                    }
+                }
+            }).join();
+        }
+
+        List<RecordedStep> steps = recorder.getRecordedSteps();
+        assertEquals(steps.get(0).id(), (long) steps.get(1).parentId());
+        assertNotEquals(steps.get(0).threadName(), steps.get(1).threadName());
+    }
+
+    @Test
+    @DisplayName("Should drop and count steps that don't fit into the buffer")
+    void testDropStepsOverCapacity() {
+        BufferingStartupRecorder recorder = new BufferingStartupRecorder(2);
+
+        for (int i = 0; i < 5; i++) {
+            recorder.start("step" + i).end();
+        }
+
+        assertEquals(List.of("step0", "step1"), recorder.getRecordedSteps().stream().map(RecordedStep::name).toList());
+        assertEquals(3, recorder.getDroppedStepCount());
+    }
+
+    @Test
+    @DisplayName("Should fail when a step is ended twice")
+    void testEndStepTwice() {
+        StartupStep step = new BufferingStartupRecorder(10).start("step");
+        step.end();
+
+        assertThrows(IllegalStateException.class, step::end);
+    }
+
+    @Test
+    @DisplayName("No-op recorder should return the same step and record nothing")
+    void testNoOpRecorder() {
+        StartupStep step = StartupRecorder.NO_OP.start("step");
+
+        assertSame(step, StartupRecorder.NO_OP.start("other", step));
+        assertSame(step, step.tag("key", "value"));
+        step.end();
+        step.end();
+    }
+}
@@ -0,0 +1,39 @@
+package com.codeus.winter.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupJsonExporterTest {
+
+    @Test
+    @DisplayName("Should export recorded steps as JSON")
+    void testExportSteps() {
+        BufferingStartupRecorder recorder = new BufferingStartupRecorder(1);
+        try (StartupStep step = recorder.start("winter.bean.create")) {
+            step.tag("beanName", "bean\"A\"\n");
+        }
+        recorder.start("dropped").end();
+
+        String json = StartupJsonExporter.toJson(recorder);
+
+        assertTrue(json.startsWith("{\"droppedSteps\":1,\"steps\":[\n{\"id\":1,\"parentId\":null,"
+                + "\"name\":\"winter.bean.create\",\"thread\":\"" + Thread.currentThread().getName() + "\","), json);
+        assertTrue(json.endsWith(",\"tags\":{\"beanName\":\"bean\\\"A\\\"\\n\"}}\n]}\n"), json);
+    }
+
+    @Test
+    @DisplayName("Should export an empty recorder")
+    void testExportEmptyRecorder() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        StartupJsonExporter.export(new BufferingStartupRecorder(1), writer);
+
+        assertEquals("{\"droppedSteps\":0,\"steps\":[\n]}\n", writer.toString());
+    }
+}
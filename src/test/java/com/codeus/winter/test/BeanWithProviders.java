@@ -0,0 +1,24 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.Qualifier;
+import com.codeus.winter.config.ObjectProvider;
+import jakarta.inject.Provider;
+
+public class BeanWithProviders {
+
+    private final Provider<BeanA> beanAProvider;
+    private final ObjectProvider<Common> commonProvider;
+
+    public BeanWithProviders(Provider<BeanA> beanAProvider, @Qualifier("BeanE") ObjectProvider<Common> commonProvider) {
+        this.beanAProvider = beanAProvider;
+        this.commonProvider = commonProvider;
+    }
+
+    public Provider<BeanA> getBeanAProvider() {
+        return beanAProvider;
+    }
+
+    public ObjectProvider<Common> getCommonProvider() {
+        return commonProvider;
+    }
+}
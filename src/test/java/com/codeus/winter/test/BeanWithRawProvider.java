@@ -0,0 +1,17 @@
+package com.codeus.winter.test;
+
+import jakarta.inject.Provider;
+
+@SuppressWarnings("rawtypes")
+public class BeanWithRawProvider {
+
+    private final Provider provider;
+
+    public BeanWithRawProvider(Provider provider) {
+        this.provider = provider;
+    }
+
+    public Provider getProvider() {
+        return provider;
+    }
+}
@@ -3,7 +3,11 @@ package com.codeus.winter.util;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.Serializable;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ClassUtilsTest {
@@ -22,6 +26,52 @@ class ClassUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> ClassUtils.resolveClass("42.TestClass"));
     }
 
+    @Test
+    @DisplayName("should resolve classes against the given class loader")
+    void testResolveClassAgainstClassLoader() {
+        CountingClassLoader classLoader = new CountingClassLoader();
+
+        Class<?> resolvedClass = ClassUtils.resolveClass(TestSubClass.class.getName(), classLoader);
+
+        assertSame(TestSubClass.class, resolvedClass);
+        assertEquals(1, classLoader.loadedClassCount);
+    }
+
+    @Test
+    @DisplayName("should collect the class, its superclasses and all inherited interfaces")
+    void testGetAllAssignableTypes() {
+        Set<Class<?>> types = ClassUtils.getAllAssignableTypes(TestSubClass.class);
+
+        assertEquals(Set.of(TestSubClass.class, TestRunnable.class, Object.class, Runnable.class,
+                TestInterface.class, Serializable.class), types);
+    }
+
+    private static final class CountingClassLoader extends ClassLoader {
+        private int loadedClassCount;
+
+        private CountingClassLoader() {
+            super(ClassUtilsTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loadedClassCount++;
+            return super.loadClass(name, resolve);
+        }
+    }
+
     static class TestClass {
     }
+
+    static class TestRunnable implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+
+    interface TestInterface extends Serializable {
+    }
+
+    static class TestSubClass extends TestRunnable implements TestInterface {
+    }
 }
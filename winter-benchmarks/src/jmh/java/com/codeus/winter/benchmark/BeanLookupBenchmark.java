@@ -0,0 +1,87 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.benchmark.generator.SyntheticComponent;
+import com.codeus.winter.benchmark.generator.SyntheticComponentGraph;
+import com.codeus.winter.config.BeanHandle;
+import com.codeus.winter.exception.BeanNotFoundException;
+import com.codeus.winter.context.AnnotationApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures singleton lookup throughput of a refreshed {@link AnnotationApplicationContext}
+ * by name, by type, by name and type, and through a {@link BeanHandle}, and the cost of probing
+ * for a missing bean with and without an exception.
+ * <p>
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=BeanLookupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BeanLookupBenchmark {
+
+    private static final String MISSING_BEAN_NAME = "missingComponent";
+
+    @Param({"100", "1000", "10000"})
+    private int componentCount;
+
+    private AnnotationApplicationContext context;
+    private Class<? extends SyntheticComponent> beanClass;
+    private String beanName;
+    private BeanHandle<? extends SyntheticComponent> beanHandle;
+
+    @Setup
+    public void setUp() {
+        SyntheticComponentGraph graph = SyntheticComponentGraph.load(componentCount);
+        context = new AnnotationApplicationContext(graph.getPackageName());
+        context.refresh();
+
+        beanClass = graph.getRootComponent();
+        String simpleName = beanClass.getSimpleName();
+        beanName = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        beanHandle = context.getBeanHandle(beanName, beanClass);
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return context.getBean(beanName);
+    }
+
+    @Benchmark
+    public SyntheticComponent getBeanByType() {
+        return context.getBean(beanClass);
+    }
+
+    @Benchmark
+    public SyntheticComponent getBeanByNameAndType() {
+        return context.getBean(beanName, beanClass);
+    }
+
+    @Benchmark
+    public SyntheticComponent getBeanByHandle() {
+        return beanHandle.get();
+    }
+
+    @Benchmark
+    public Optional<Object> findMissingBean() {
+        return context.findBean(MISSING_BEAN_NAME);
+    }
+
+    @Benchmark
+    public Object getMissingBean() {
+        try {
+            return context.getBean(MISSING_BEAN_NAME);
+        } catch (BeanNotFoundException e) {
+            return e;
+        }
+    }
+}
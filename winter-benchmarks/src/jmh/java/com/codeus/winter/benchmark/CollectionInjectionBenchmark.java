@@ -0,0 +1,75 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.benchmark.generator.SyntheticComponent;
+import com.codeus.winter.benchmark.generator.SyntheticComponentGraph;
+import com.codeus.winter.config.BeanDefinitionRegistry;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.DependencyDescriptor;
+import com.codeus.winter.config.PackageBeanRegistration;
+import com.codeus.winter.config.impl.BeanDefinitionRegistryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the resolution of {@code List}, {@code Set} and {@code Map} dependencies
+ * in {@link DefaultBeanFactory#resolveDependency(DependencyDescriptor)}.
+ * <p>
+ * Every component of a synthetic package is a candidate. All of them are created up front,
+ * so only the lookup of the candidates and the collection building is measured.
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=CollectionInjectionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionInjectionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int componentCount;
+
+    private DefaultBeanFactory beanFactory;
+    private DependencyDescriptor listDescriptor;
+    private DependencyDescriptor setDescriptor;
+    private DependencyDescriptor mapDescriptor;
+
+    @Setup
+    public void setUp() {
+        BeanDefinitionRegistry beanDefinitionRegistry = new BeanDefinitionRegistryImpl();
+        new PackageBeanRegistration(beanDefinitionRegistry)
+                .registerBeans(SyntheticComponentGraph.load(componentCount).getPackageName());
+        beanFactory = new DefaultBeanFactory(beanDefinitionRegistry.getRegisteredBeanDefinitions());
+        beanFactory.initializeBeans();
+
+        listDescriptor = DependencyDescriptor.of("components",
+                DependencyDescriptor.parameterizedType(List.class, SyntheticComponent.class), null);
+        setDescriptor = DependencyDescriptor.of("components",
+                DependencyDescriptor.parameterizedType(Set.class, SyntheticComponent.class), null);
+        mapDescriptor = DependencyDescriptor.of("components",
+                DependencyDescriptor.parameterizedType(Map.class, String.class, SyntheticComponent.class), null);
+    }
+
+    @Benchmark
+    public Object resolveList() {
+        return beanFactory.resolveDependency(listDescriptor);
+    }
+
+    @Benchmark
+    public Object resolveSet() {
+        return beanFactory.resolveDependency(setDescriptor);
+    }
+
+    @Benchmark
+    public Object resolveMap() {
+        return beanFactory.resolveDependency(mapDescriptor);
+    }
+}
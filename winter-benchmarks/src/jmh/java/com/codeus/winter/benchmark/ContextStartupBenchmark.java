@@ -0,0 +1,63 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.benchmark.generator.ComponentGraphGenerator;
+import com.codeus.winter.benchmark.generator.SyntheticComponentGraph;
+import com.codeus.winter.context.AnnotationApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of an {@link AnnotationApplicationContext} over a synthetic package,
+ * with and without creating all singletons.
+ * <p>
+ * The packages are written by {@link ComponentGraphGenerator} before the benchmarks are compiled.
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=ContextStartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContextStartupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int componentCount;
+
+    private String packageName;
+    private PrintStream standardOut;
+
+    @Setup
+    public void setUp() {
+        packageName = SyntheticComponentGraph.load(componentCount).getPackageName();
+
+        // The context prints its banner on construction, keep it out of the benchmark output.
+        standardOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(standardOut);
+    }
+
+    @Benchmark
+    public AnnotationApplicationContext construct() {
+        return new AnnotationApplicationContext(packageName);
+    }
+
+    @Benchmark
+    public AnnotationApplicationContext constructAndRefresh() {
+        AnnotationApplicationContext context = new AnnotationApplicationContext(packageName);
+        context.refresh();
+        return context;
+    }
+}
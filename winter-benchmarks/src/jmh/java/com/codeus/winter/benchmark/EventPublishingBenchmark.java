@@ -0,0 +1,106 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.annotation.EventListener;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.context.SimpleApplicationEventMulticaster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures publishing an event to synchronous {@link EventListener} methods through
+ * {@link SimpleApplicationEventMulticaster}, compared to calling the same listeners from a hand-rolled observer list.
+ * Every listener bean also listens to an event type that is never published.
+ * <p>
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=EventPublishingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventPublishingBenchmark {
+
+    @Param({"1", "10"})
+    private int listenerCount;
+
+    private SimpleApplicationEventMulticaster multicaster;
+    private final List<OrderListener> observers = new ArrayList<>();
+    private final OrderPlaced event = new OrderPlaced(42);
+
+    @Setup
+    public void setUp() {
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory();
+        multicaster = new SimpleApplicationEventMulticaster(Runnable::run);
+        for (int i = 0; i < listenerCount; i++) {
+            String beanName = "orderListener" + i;
+            OrderListener listener = new OrderListener();
+            BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+            beanDefinition.setBeanClass(OrderListener.class);
+            beanFactory.registerBean(beanName, beanDefinition, listener);
+            multicaster.addListeners(beanFactory.getBeanHandle(beanName, OrderListener.class), OrderListener.class);
+            observers.add(listener);
+        }
+    }
+
+    @Benchmark
+    public void publishEvent() {
+        multicaster.publishEvent(event);
+    }
+
+    @Benchmark
+    public void notifyObservers() {
+        for (OrderListener observer : observers) {
+            observer.onOrderPlaced(event);
+        }
+    }
+
+    /**
+     * Event published by the benchmark.
+     *
+     * @param orderId an order ID.
+     */
+    public record OrderPlaced(long orderId) {
+    }
+
+    /**
+     * Event that is never published.
+     */
+    public record OrderCancelled() {
+    }
+
+    /**
+     * Listener bean summing the IDs of the placed orders.
+     */
+    public static class OrderListener {
+        private long orderIdSum;
+
+        /**
+         * Handles a placed order.
+         *
+         * @param placed the event.
+         */
+        @EventListener
+        public void onOrderPlaced(OrderPlaced placed) {
+            orderIdSum += placed.orderId();
+        }
+
+        /**
+         * Handles a cancelled order.
+         *
+         * @param cancelled the event.
+         */
+        @EventListener
+        public void onOrderCancelled(OrderCancelled cancelled) {
+            orderIdSum--;
+        }
+    }
+}
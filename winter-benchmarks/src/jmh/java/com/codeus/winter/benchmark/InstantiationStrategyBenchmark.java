@@ -0,0 +1,104 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.annotation.Autowired;
+import com.codeus.winter.annotation.AutowiredAnnotationBeanPostProcessor;
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.InstantiationStrategy;
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.config.impl.MethodHandleInstantiationStrategy;
+import com.codeus.winter.config.impl.ReflectiveInstantiationStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares prototype creation with the reflective and the method handle based {@link InstantiationStrategy}
+ * against a plain {@code new}.
+ * <p>
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=InstantiationStrategyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstantiationStrategyBenchmark {
+
+    @Param({"reflective", "methodHandle"})
+    private String strategy;
+
+    private DefaultBeanFactory beanFactory;
+    private Repository repository;
+
+    @Setup
+    public void setUp() {
+        InstantiationStrategy instantiationStrategy = "methodHandle".equals(strategy)
+                ? new MethodHandleInstantiationStrategy()
+                : new ReflectiveInstantiationStrategy();
+
+        beanFactory = new DefaultBeanFactory();
+        beanFactory.setInstantiationStrategy(instantiationStrategy);
+        AutowiredAnnotationBeanPostProcessor autowiredPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredPostProcessor.setBeanFactory(beanFactory);
+        autowiredPostProcessor.setInstantiationStrategy(instantiationStrategy);
+        beanFactory.addBeanPostProcessor(autowiredPostProcessor);
+
+        BeanDefinition repositoryDefinition = new BeanDefinitionImpl();
+        repositoryDefinition.setBeanClassName(Repository.class.getName());
+        repositoryDefinition.setScope(BeanDefinition.SCOPE_SINGLETON);
+        beanFactory.registerBeanDefinition("repository", repositoryDefinition);
+        repository = beanFactory.getBean(Repository.class);
+    }
+
+    @Benchmark
+    public Service plainNew() {
+        Service service = new Service(repository);
+        service.setRepository(repository);
+        return service;
+    }
+
+    @Benchmark
+    public Repository createWithDefaultConstructor() {
+        return beanFactory.createBean(Repository.class);
+    }
+
+    @Benchmark
+    public Service createWithConstructorAndMethodInjection() {
+        return beanFactory.createBean(Service.class);
+    }
+
+    @Benchmark
+    public Controller createWithFieldInjection() {
+        return beanFactory.createBean(Controller.class);
+    }
+
+    public static class Repository {
+    }
+
+    public static class Service {
+        private final Repository constructorRepository;
+        private Repository methodRepository;
+
+        public Service(Repository repository) {
+            this.constructorRepository = repository;
+        }
+
+        @Autowired
+        public void setRepository(Repository repository) {
+            this.methodRepository = repository;
+        }
+    }
+
+    public static class Controller {
+        @Autowired
+        private Repository repository;
+        @Autowired
+        private Repository secondRepository;
+    }
+}
@@ -0,0 +1,52 @@
+package com.codeus.winter.benchmark;
+
+import com.codeus.winter.benchmark.generator.SyntheticComponent;
+import com.codeus.winter.benchmark.generator.SyntheticComponentGraph;
+import com.codeus.winter.context.AnnotationApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AnnotationApplicationContext#createBean(Class)} for a component without dependencies
+ * and for a component whose constructor dependencies are resolved from the context.
+ * <p>
+ * Run with {@code ./gradlew :winter-benchmarks:jmh -PjmhIncludes=PrototypeCreationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrototypeCreationBenchmark {
+
+    private static final int COMPONENT_COUNT = 100;
+
+    private AnnotationApplicationContext context;
+    private Class<? extends SyntheticComponent> leafComponent;
+    private Class<? extends SyntheticComponent> rootComponent;
+
+    @Setup
+    public void setUp() {
+        SyntheticComponentGraph graph = SyntheticComponentGraph.load(COMPONENT_COUNT);
+        context = new AnnotationApplicationContext(graph.getPackageName());
+        context.refresh();
+
+        leafComponent = graph.getLeafComponent();
+        rootComponent = graph.getRootComponent();
+    }
+
+    @Benchmark
+    public SyntheticComponent createWithoutDependencies() {
+        return context.createBean(leafComponent);
+    }
+
+    @Benchmark
+    public SyntheticComponent createWithDependencies() {
+        return context.createBean(rootComponent);
+    }
+}
@@ -0,0 +1,234 @@
+package com.codeus.winter.benchmark.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+/**
+ * Writes the sources of a synthetic package of {@code @Component} classes for benchmarks.
+ * <p>
+ * The components are split into {@code depth} levels of about the same size. Components of the first level
+ * have no dependencies, every other component gets {@code fanOut} components of the previous level injected
+ * through its constructor, so the longest dependency chain has {@code depth} components.
+ * The graph only depends on the parameters, generating it twice writes the same sources.
+ * <p>
+ * Every package also gets a {@link SyntheticComponentGraph} implementation named
+ * {@value SyntheticComponentGraph#DESCRIPTOR_CLASS_NAME} describing it.
+ */
+public final class ComponentGraphGenerator {
+
+    /**
+     * Parent package of all synthetic packages.
+     */
+    public static final String BASE_PACKAGE = "com.codeus.winter.benchmark.synthetic";
+
+    private static final String INDENT = "    ";
+    private static final int FIRST_COMPONENT_COUNT_ARGUMENT = 3;
+
+    private final int componentCount;
+    private final int depth;
+    private final int fanOut;
+
+    /**
+     * Creates a generator for one synthetic package.
+     *
+     * @param componentCount the number of components to generate.
+     * @param depth          the number of levels, between 1 and {@code componentCount}.
+     * @param fanOut         the number of dependencies of each component outside the first level.
+     */
+    public ComponentGraphGenerator(int componentCount, int depth, int fanOut) {
+        if (depth < 1 || depth > componentCount) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + componentCount + ": " + depth);
+        }
+        if (fanOut < 0) {
+            throw new IllegalArgumentException("Fan-out must not be negative: " + fanOut);
+        }
+        this.componentCount = componentCount;
+        this.depth = depth;
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * Returns the package the components of a graph of the given size are generated in.
+     *
+     * @param componentCount the number of components.
+     * @return a package name.
+     */
+    public static String packageName(int componentCount) {
+        return BASE_PACKAGE + ".c" + componentCount;
+    }
+
+    /**
+     * Returns the simple name of a generated component.
+     *
+     * @param level the level of the component, starting from 0.
+     * @param index the index of the component inside its level.
+     * @return a class name.
+     */
+    public static String className(int level, int index) {
+        return "Level" + level + "Component" + index;
+    }
+
+    /**
+     * Returns the number of components of a level.
+     *
+     * @param level the level, starting from 0.
+     * @return the number of components.
+     */
+    public int getLevelSize(int level) {
+        return componentCount / depth + (level < componentCount % depth ? 1 : 0);
+    }
+
+    /**
+     * Returns the indexes of the components of the previous level that a component depends on.
+     *
+     * @param level the level of the component.
+     * @param index the index of the component inside its level.
+     * @return indexes inside the previous level, empty for the first level.
+     */
+    public List<Integer> getDependencies(int level, int index) {
+        if (level == 0) {
+            return List.of();
+        }
+
+        int previousLevelSize = getLevelSize(level - 1);
+        int dependencyCount = Math.min(fanOut, previousLevelSize);
+        List<Integer> dependencies = new ArrayList<>(dependencyCount);
+        for (int i = 0; i < dependencyCount; i++) {
+            dependencies.add((index * fanOut + i) % previousLevelSize);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Writes the sources of the package into the given source root, replacing a previously generated package.
+     *
+     * @param sourceRoot the root directory of the sources.
+     * @throws IOException if the sources cannot be written.
+     */
+    public void writeTo(Path sourceRoot) throws IOException {
+        String packageName = packageName(componentCount);
+        Path packageDirectory = sourceRoot.resolve(packageName.replace('.', '/'));
+        delete(packageDirectory);
+        Files.createDirectories(packageDirectory);
+
+        for (int level = 0; level < depth; level++) {
+            for (int index = 0; index < getLevelSize(level); index++) {
+                Files.writeString(packageDirectory.resolve(className(level, index) + ".java"),
+                        componentSource(packageName, level, index));
+            }
+        }
+        Files.writeString(packageDirectory.resolve(SyntheticComponentGraph.DESCRIPTOR_CLASS_NAME + ".java"),
+                descriptorSource(packageName));
+    }
+
+    private String componentSource(String packageName, int level, int index) {
+        List<Integer> dependencies = getDependencies(level, index);
+        StringBuilder source = new StringBuilder(header(packageName));
+        if (!dependencies.isEmpty()) {
+            source.append("import com.codeus.winter.annotation.Autowired;\n");
+        }
+        source.append("import com.codeus.winter.annotation.Component;\n")
+                .append("import ").append(SyntheticComponent.class.getName()).append(";\n\n")
+                .append("@Component\n")
+                .append("public class ").append(className(level, index))
+                .append(" implements ").append(SyntheticComponent.class.getSimpleName()).append(" {\n");
+
+        if (!dependencies.isEmpty()) {
+            StringJoiner parameters = new StringJoiner(", ");
+            StringBuilder assignments = new StringBuilder();
+            source.append('\n');
+            for (int i = 0; i < dependencies.size(); i++) {
+                String type = className(level - 1, dependencies.get(i));
+                source.append(INDENT).append("private final ").append(type).append(" dependency").append(i)
+                        .append(";\n");
+                parameters.add(type + " dependency" + i);
+                assignments.append(INDENT).append(INDENT).append("this.dependency").append(i)
+                        .append(" = dependency").append(i).append(";\n");
+            }
+            source.append('\n')
+                    .append(INDENT).append("@Autowired\n")
+                    .append(INDENT).append("public ").append(className(level, index))
+                    .append('(').append(parameters).append(") {\n")
+                    .append(assignments)
+                    .append(INDENT).append("}\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String descriptorSource(String packageName) {
+        String graphType = SyntheticComponentGraph.class.getSimpleName();
+        String componentType = SyntheticComponent.class.getSimpleName();
+        return header(packageName)
+                + "import " + SyntheticComponent.class.getName() + ";\n"
+                + "import " + SyntheticComponentGraph.class.getName() + ";\n\n"
+                + "public final class " + SyntheticComponentGraph.DESCRIPTOR_CLASS_NAME
+                + " implements " + graphType + " {\n\n"
+                + String.join("\n",
+                        method("String", "getPackageName", '"' + packageName + '"'),
+                        method("int", "getComponentCount", String.valueOf(componentCount)),
+                        method("Class<? extends " + componentType + ">", "getLeafComponent",
+                                className(0, 0) + ".class"),
+                        method("Class<? extends " + componentType + ">", "getRootComponent",
+                                className(depth - 1, 0) + ".class"))
+                + "}\n";
+    }
+
+    private static String header(String packageName) {
+        return "// Generated by " + ComponentGraphGenerator.class.getName() + ". Do not edit.\n"
+                + "package " + packageName + ";\n\n";
+    }
+
+    private static String method(String returnType, String name, String value) {
+        return INDENT + "@Override\n"
+                + INDENT + "public " + returnType + " " + name + "() {\n"
+                + INDENT + INDENT + "return " + value + ";\n"
+                + INDENT + "}\n";
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Generates one synthetic package per component count.
+     * <p>
+     * Arguments: {@code <source root> <depth> <fan-out> <component count>...}
+     *
+     * @param args the command line arguments.
+     * @throws IOException if the sources cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length <= FIRST_COMPONENT_COUNT_ARGUMENT) {
+            throw new IllegalArgumentException(
+                    "Usage: ComponentGraphGenerator <source root> <depth> <fan-out> <component count>...");
+        }
+
+        Path sourceRoot = Path.of(args[0]);
+        int depth = Integer.parseInt(args[1]);
+        int fanOut = Integer.parseInt(args[2]);
+        for (int i = FIRST_COMPONENT_COUNT_ARGUMENT; i < args.length; i++) {
+            int componentCount = Integer.parseInt(args[i]);
+            new ComponentGraphGenerator(componentCount, Math.min(depth, componentCount), fanOut).writeTo(sourceRoot);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeus.winter.benchmark.generator;
+
+/**
+ * Implemented by every component written by {@link ComponentGraphGenerator},
+ * so all components of a synthetic package can be injected as a collection.
+ */
+public interface SyntheticComponent {
+}
@@ -0,0 +1,60 @@
+package com.codeus.winter.benchmark.generator;
+
+/**
+ * Describes a package of components written by {@link ComponentGraphGenerator}.
+ * <p>
+ * The generator writes one implementation per package, so benchmarks don't have to know
+ * the depth and fan-out the graph was generated with.
+ */
+public interface SyntheticComponentGraph {
+
+    /**
+     * Name of the generated implementation in every synthetic package.
+     */
+    String DESCRIPTOR_CLASS_NAME = "ComponentGraph";
+
+    /**
+     * Returns the package holding the components of the graph.
+     *
+     * @return a package name.
+     */
+    String getPackageName();
+
+    /**
+     * Returns the number of components in the graph.
+     *
+     * @return the component count.
+     */
+    int getComponentCount();
+
+    /**
+     * Returns a component of the first level, which has no dependencies.
+     *
+     * @return a component class.
+     */
+    Class<? extends SyntheticComponent> getLeafComponent();
+
+    /**
+     * Returns a component of the last level, which has the longest dependency chain.
+     *
+     * @return a component class.
+     */
+    Class<? extends SyntheticComponent> getRootComponent();
+
+    /**
+     * Loads the descriptor of the graph generated with the given number of components.
+     *
+     * @param componentCount the number of components the graph was generated with.
+     * @return the graph descriptor.
+     * @throws IllegalStateException if no graph of that size was generated.
+     */
+    static SyntheticComponentGraph load(int componentCount) {
+        String className = ComponentGraphGenerator.packageName(componentCount) + "." + DESCRIPTOR_CLASS_NAME;
+        try {
+            return (SyntheticComponentGraph) Class.forName(className).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No synthetic component graph of " + componentCount
+                    + " components was generated", e);
+        }
+    }
+}
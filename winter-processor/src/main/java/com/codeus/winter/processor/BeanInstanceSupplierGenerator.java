@@ -0,0 +1,314 @@
+package com.codeus.winter.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Generates a {@code BeanInstanceSupplier} source file for a component class.
+ * <p>
+ * The generated supplier calls the autowiring constructor with {@code new}, assigns {@code @Autowired}
+ * fields and calls {@code @Autowired} methods directly, so the container doesn't need reflection to create
+ * the bean. The constructor is chosen with the same rules as
+ * {@code AbstractAutowireCapableBeanFactory#findAutowiringConstructor}. The dependency descriptors are constants
+ * of the supplier, so the factory can cache what each injection point resolved to.
+ * Components that cannot be created from plain Java code in their own package, e.g. ones with private
+ * injection points or generic dependency types with wildcards, are skipped and keep being created reflectively.
+ */
+final class BeanInstanceSupplierGenerator {
+
+    static final String SUPPLIER_SUFFIX = "__BeanInstanceSupplier";
+
+    private static final String AUTOWIRED = "com.codeus.winter.annotation.Autowired";
+    private static final String QUALIFIER = "com.codeus.winter.annotation.Qualifier";
+    private static final String DEPENDENCY_DESCRIPTOR = "com.codeus.winter.config.DependencyDescriptor";
+    private static final String DESCRIPTOR_FIELD_PREFIX = "DEPENDENCY_";
+
+    private final ProcessingEnvironment processingEnv;
+
+    BeanInstanceSupplierGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Generates a supplier for the given component.
+     *
+     * @param component a component class.
+     * @return the binary name of the generated supplier, or {@code null} if the component was skipped.
+     * @throws IOException if the source file cannot be written.
+     */
+    String generate(TypeElement component) throws IOException {
+        List<String> descriptors = new ArrayList<>();
+        String body = supplierBody(component, descriptors);
+        if (body == null) {
+            return null;
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(component);
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(component).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUPPLIER_SUFFIX;
+        String supplierName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String beanType = component.getQualifiedName().toString();
+        StringBuilder descriptorFields = new StringBuilder();
+        for (int i = 0; i < descriptors.size(); i++) {
+            descriptorFields.append("    private static final %s %s%d =\n            %s;\n\n"
+                    .formatted(DEPENDENCY_DESCRIPTOR, DESCRIPTOR_FIELD_PREFIX, i, descriptors.get(i)));
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(supplierName, component).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("""
+                    /**
+                     * Creates {@link %2$s} instances without reflection.
+                     */
+                    @javax.annotation.processing.Generated("%3$s")
+                    public final class %1$s implements com.codeus.winter.config.BeanInstanceSupplier<%2$s> {
+
+                    %5$s    @Override
+                        public Class<%2$s> getBeanClass() {
+                            return %2$s.class;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public %2$s get(com.codeus.winter.config.AbstractAutowireCapableBeanFactory beanFactory) {
+                    %4$s
+                            return bean;
+                        }
+                    }
+                    """.formatted(simpleName, beanType, ComponentIndexProcessor.class.getName(), body,
+                    descriptorFields));
+        }
+        return supplierName;
+    }
+
+    private String supplierBody(TypeElement component, List<String> descriptors) {
+        if (!isInstantiable(component)) {
+            return null;
+        }
+
+        ExecutableElement constructor = findConstructor(component);
+        if (constructor == null) {
+            return null;
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(component);
+        String beanType = component.getQualifiedName().toString();
+        String constructorArguments = arguments(constructor, packageElement, descriptors);
+        if (constructorArguments == null) {
+            return null;
+        }
+
+        List<String> statements = new ArrayList<>();
+        statements.add("%s bean = new %s(%s);".formatted(beanType, beanType, constructorArguments));
+
+        for (VariableElement field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+            if (hasAnnotation(field, AUTOWIRED)) {
+                String dependency = dependency(field, field.getSimpleName().toString(), packageElement,
+                        descriptors);
+                if (isInaccessible(field) || field.getModifiers().contains(Modifier.FINAL) || dependency == null) {
+                    return null;
+                }
+                statements.add("bean.%s = %s;".formatted(field.getSimpleName(), dependency));
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(component.getEnclosedElements())) {
+            if (hasAnnotation(method, AUTOWIRED)) {
+                String arguments = arguments(method, packageElement, descriptors);
+                if (isInaccessible(method) || arguments == null) {
+                    return null;
+                }
+                statements.add("bean.%s(%s);".formatted(method.getSimpleName(), arguments));
+            }
+        }
+
+        StringJoiner body = new StringJoiner("\n");
+        statements.forEach(statement -> body.add("        " + statement));
+        return body.toString();
+    }
+
+    private boolean isInstantiable(TypeElement component) {
+        if (component.getModifiers().contains(Modifier.ABSTRACT) || !component.getTypeParameters().isEmpty()) {
+            return false;
+        }
+
+        Element element = component;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = element.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE
+                    && !(enclosing.getKind().isClass() && element.getModifiers().contains(Modifier.STATIC))) {
+                return false;
+            }
+            element = enclosing;
+        }
+        return true;
+    }
+
+    private ExecutableElement findConstructor(TypeElement component) {
+        List<ExecutableElement> candidates = new ArrayList<>();
+        ExecutableElement explicitAutowiringConstructor = null;
+        ExecutableElement defaultConstructor = null;
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(component.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (hasAnnotation(constructor, AUTOWIRED)) {
+                if (explicitAutowiringConstructor != null) {
+                    return null;
+                }
+                explicitAutowiringConstructor = constructor;
+            }
+            if (constructor.getParameters().isEmpty()) {
+                defaultConstructor = constructor;
+            }
+            candidates.add(constructor);
+        }
+
+        if (explicitAutowiringConstructor != null) {
+            return explicitAutowiringConstructor;
+        } else if (candidates.size() == 1 && defaultConstructor == null) {
+            return candidates.getFirst();
+        } else if (candidates.size() == 2 && defaultConstructor != null) {
+            return candidates.getFirst() == defaultConstructor ? candidates.get(1) : candidates.getFirst();
+        }
+        return defaultConstructor;
+    }
+
+    private String arguments(ExecutableElement executable, PackageElement packageElement,
+                             List<String> descriptors) {
+        StringJoiner arguments = new StringJoiner(",\n                ");
+        for (VariableElement parameter : executable.getParameters()) {
+            String dependency = dependency(parameter, parameter.getSimpleName().toString(), packageElement,
+                    descriptors);
+            if (dependency == null) {
+                return null;
+            }
+            arguments.add(dependency);
+        }
+        return executable.getParameters().isEmpty() ? "" : "\n                " + arguments;
+    }
+
+    /**
+     * Renders the resolution of a dependency and adds the expression of its descriptor to the given list,
+     * or returns {@code null} if the dependency type cannot be expressed.
+     */
+    private String dependency(Element injectionPoint, String name, PackageElement packageElement,
+                              List<String> descriptors) {
+        TypeMirror type = injectionPoint.asType();
+        String typeExpression = typeExpression(type, packageElement);
+        if (typeExpression == null) {
+            return null;
+        }
+
+        String qualifier = qualifier(injectionPoint);
+        descriptors.add("%s.of(%s, %s, %s)".formatted(DEPENDENCY_DESCRIPTOR, literal(name), typeExpression,
+                qualifier != null ? literal(qualifier) : "null"));
+        return "(%s) beanFactory.resolveDependency(%s%d)".formatted(
+                type, DESCRIPTOR_FIELD_PREFIX, descriptors.size() - 1);
+    }
+
+    /**
+     * Renders a {@code java.lang.reflect.Type} expression for the given type,
+     * or returns {@code null} if the type cannot be expressed without reflection
+     * or is not accessible from the package of the generated supplier.
+     */
+    private String typeExpression(TypeMirror type, PackageElement packageElement) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        if (!isAccessible(element, packageElement)) {
+            return null;
+        }
+
+        String rawType = element.getQualifiedName() + ".class";
+        if (declaredType.getTypeArguments().isEmpty()) {
+            return rawType;
+        }
+
+        StringJoiner typeArguments = new StringJoiner(", ", DEPENDENCY_DESCRIPTOR + ".parameterizedType(", ")");
+        typeArguments.add(rawType);
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            String typeArgumentExpression = typeExpression(typeArgument, packageElement);
+            if (typeArgumentExpression == null) {
+                return null;
+            }
+            typeArguments.add(typeArgumentExpression);
+        }
+        return typeArguments.toString();
+    }
+
+    private String qualifier(Element injectionPoint) {
+        for (AnnotationMirror annotation : injectionPoint.getAnnotationMirrors()) {
+            if (QUALIFIER.equals(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .toString())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return String.valueOf(entry.getValue().getValue());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement packageElement) {
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)
+                    || !element.getModifiers().contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(element).equals(packageElement)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static boolean isInaccessible(Element member) {
+        return member.getModifiers().contains(Modifier.PRIVATE) || member.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
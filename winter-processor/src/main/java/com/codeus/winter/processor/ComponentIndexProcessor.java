@@ -0,0 +1,295 @@
+package com.codeus.winter.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes the {@value #COMPONENTS_RESOURCE_LOCATION} component index.
+ * <p>
+ * Every class annotated with {@code @Component} or {@code @Configuration} gets one line holding its
+ * stereotypes, scope, {@code @Primary} and {@code @Lazy} flags, autowired dependency types and lifecycle method names.
+ * At runtime the container reads this index instead of scanning the classpath.
+ * The format must be kept in sync with {@code com.codeus.winter.config.ComponentIndex}.
+ * <p>
+ * With the {@code -A}{@value #AOT_OPTION}{@code =true} compiler option the processor also generates
+ * a {@code BeanInstanceSupplier} for every component that can be created without reflection,
+ * see {@link BeanInstanceSupplierGenerator}, and registers them in {@value #SUPPLIERS_RESOURCE_LOCATION}.
+ */
+@SupportedAnnotationTypes({
+    ComponentIndexProcessor.COMPONENT,
+    ComponentIndexProcessor.CONFIGURATION
+})
+@SupportedOptions(ComponentIndexProcessor.AOT_OPTION)
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/winter.components";
+    static final String SUPPLIERS_RESOURCE_LOCATION =
+            "META-INF/services/com.codeus.winter.config.BeanInstanceSupplier";
+    static final String AOT_OPTION = "winter.aot";
+
+    static final String COMPONENT = "com.codeus.winter.annotation.Component";
+    static final String CONFIGURATION = "com.codeus.winter.annotation.Configuration";
+
+    private static final String AUTOWIRED = "com.codeus.winter.annotation.Autowired";
+    private static final String PRIMARY = "com.codeus.winter.annotation.Primary";
+    private static final String LAZY = "com.codeus.winter.annotation.Lazy";
+    private static final String SCOPE = "com.codeus.winter.annotation.Scope";
+    private static final String POST_CONSTRUCT = "com.codeus.winter.annotation.PostConstruct";
+    private static final String PRE_DESTROY = "com.codeus.winter.annotation.PreDestroy";
+    private static final String EVENT_LISTENER = "com.codeus.winter.annotation.EventListener";
+
+    private final Map<String, String> components = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private final Set<String> beanInstanceSuppliers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    TypeElement typeElement = (TypeElement) element;
+                    String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+                    components.put(className, describe(typeElement));
+                    originatingElements.add(typeElement);
+                    if (isAotEnabled()) {
+                        generateBeanInstanceSupplier(typeElement, className);
+                    }
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !components.isEmpty()) {
+            writeIndex();
+            if (!beanInstanceSuppliers.isEmpty()) {
+                writeBeanInstanceSuppliers();
+            }
+        }
+        return false;
+    }
+
+    private boolean isAotEnabled() {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(AOT_OPTION));
+    }
+
+    private void generateBeanInstanceSupplier(TypeElement typeElement, String className) {
+        try {
+            String supplierName = new BeanInstanceSupplierGenerator(processingEnv).generate(typeElement);
+            if (supplierName != null) {
+                beanInstanceSuppliers.add(supplierName);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No BeanInstanceSupplier generated, the component will be created reflectively", typeElement);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate BeanInstanceSupplier for " + className + ": " + e.getMessage(), typeElement);
+        }
+    }
+
+    private void writeBeanInstanceSuppliers() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SUPPLIERS_RESOURCE_LOCATION, originatingElements.toArray(Element[]::new));
+            try (Writer writer = resource.openWriter()) {
+                for (String beanInstanceSupplier : beanInstanceSuppliers) {
+                    writer.write(beanInstanceSupplier + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + SUPPLIERS_RESOURCE_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private String describe(TypeElement typeElement) {
+        Set<String> stereotypes = new LinkedHashSet<>();
+        Set<String> dependencies = new LinkedHashSet<>();
+        String scope = null;
+        boolean primary = false;
+        boolean lazy = false;
+        boolean eventListener = false;
+        Set<String> initMethods = new LinkedHashSet<>();
+        Set<String> destroyMethods = new LinkedHashSet<>();
+
+        for (AnnotationMirror annotation : typeElement.getAnnotationMirrors()) {
+            String annotationName = annotationName(annotation);
+            if (COMPONENT.equals(annotationName) || CONFIGURATION.equals(annotationName)) {
+                stereotypes.add(annotationName);
+            } else if (PRIMARY.equals(annotationName)) {
+                primary = true;
+            } else if (LAZY.equals(annotationName)) {
+                lazy = true;
+            } else if (SCOPE.equals(annotationName)) {
+                scope = annotationValue(annotation);
+            }
+        }
+
+        for (Element member : typeElement.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && hasAnnotation(member, AUTOWIRED)) {
+                dependencies.add(typeName(member.asType()));
+            } else if (member.getKind() == ElementKind.METHOD || member.getKind() == ElementKind.CONSTRUCTOR) {
+                ExecutableElement executable = (ExecutableElement) member;
+                if (hasAnnotation(executable, AUTOWIRED)) {
+                    for (VariableElement parameter : executable.getParameters()) {
+                        dependencies.add(typeName(parameter.asType()));
+                    }
+                }
+                if (hasAnnotation(executable, EVENT_LISTENER)) {
+                    eventListener = true;
+                }
+            }
+        }
+        collectLifecycleMethods(typeElement, initMethods, destroyMethods);
+
+        StringBuilder description = new StringBuilder("stereotypes:").append(String.join(",", stereotypes));
+        if (scope != null && !scope.isEmpty()) {
+            description.append(";scope:").append(scope);
+        }
+        description.append(";primary:").append(primary);
+        if (lazy) {
+            description.append(";lazy:true");
+        }
+        if (eventListener) {
+            description.append(";eventListener:true");
+        }
+        description.append(";dependsOn:").append(String.join(",", dependencies));
+        if (!initMethods.isEmpty()) {
+            description.append(";initMethod:").append(String.join(",", initMethods));
+        }
+        if (!destroyMethods.isEmpty()) {
+            description.append(";destroyMethod:").append(String.join(",", destroyMethods));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Collects the names of the @PostConstruct and @PreDestroy methods of the class and of its superclasses,
+     * in the order the container invokes them: superclass methods first, each class in declaration order.
+     * A method overridden by a subclass is collected once, where the subclass declares it.
+     */
+    private void collectLifecycleMethods(TypeElement typeElement, Set<String> initMethods,
+                                         Set<String> destroyMethods) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement type = typeElement; type != null; type = superclass(type)) {
+            hierarchy.add(0, type);
+        }
+
+        for (int i = 0; i < hierarchy.size(); i++) {
+            for (ExecutableElement method : ElementFilter.methodsIn(hierarchy.get(i).getEnclosedElements())) {
+                if (isOverridden(method, hierarchy.subList(i + 1, hierarchy.size()), typeElement)) {
+                    continue;
+                }
+                if (hasAnnotation(method, POST_CONSTRUCT)) {
+                    initMethods.add(method.getSimpleName().toString());
+                }
+                if (hasAnnotation(method, PRE_DESTROY)) {
+                    destroyMethods.add(method.getSimpleName().toString());
+                }
+            }
+        }
+    }
+
+    private boolean isOverridden(ExecutableElement method, List<TypeElement> subclasses, TypeElement typeElement) {
+        for (TypeElement subclass : subclasses) {
+            for (ExecutableElement candidate : ElementFilter.methodsIn(subclass.getEnclosedElements())) {
+                if (processingEnv.getElementUtils().overrides(candidate, method, typeElement)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static TypeElement superclass(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superElement.getQualifiedName().contentEquals(Object.class.getName()) ? null : superElement;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    COMPONENTS_RESOURCE_LOCATION, originatingElements.toArray(Element[]::new));
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + ". Do not edit.\n");
+                for (Map.Entry<String, String> component : components.entrySet()) {
+                    writer.write(component.getKey() + "=" + component.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + COMPONENTS_RESOURCE_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Renders a type the way {@link Class#getName()} does for the erased type,
+     * so index entries match the dependency names collected by reflection.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) erasure).asElement();
+            return processingEnv.getElementUtils().getBinaryName(element).toString();
+        }
+        return erasure.toString();
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName.equals(annotationName(annotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String annotationValue(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+}
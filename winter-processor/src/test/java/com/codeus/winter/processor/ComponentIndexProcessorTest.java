@@ -0,0 +1,245 @@
+package com.codeus.winter.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentIndexProcessorTest {
+
+    private static final String ANNOTATIONS = """
+            package com.codeus.winter.annotation;
+            import java.lang.annotation.*;
+            @Retention(RetentionPolicy.RUNTIME) @interface Component { String value() default ""; }
+            @Retention(RetentionPolicy.RUNTIME) @interface Configuration { }
+            @Retention(RetentionPolicy.RUNTIME) @interface Autowired { }
+            @Retention(RetentionPolicy.RUNTIME) @interface Primary { }
+            @Retention(RetentionPolicy.RUNTIME) @interface Lazy { }
+            @Retention(RetentionPolicy.RUNTIME) @interface Scope { String value() default ""; }
+            @Retention(RetentionPolicy.RUNTIME) @interface PostConstruct { }
+            @Retention(RetentionPolicy.RUNTIME) @interface PreDestroy { }
+            @Retention(RetentionPolicy.RUNTIME) @interface EventListener { boolean async() default false; }
+            @Retention(RetentionPolicy.RUNTIME) @interface Qualifier { String value(); }
+            """;
+
+    private static final String BEAN_INSTANCE_SUPPLIER = """
+            package com.codeus.winter.config;
+            public interface BeanInstanceSupplier<T> {
+                Class<T> getBeanClass();
+                T get(AbstractAutowireCapableBeanFactory beanFactory);
+            }
+            """;
+
+    private static final String BEAN_FACTORY = """
+            package com.codeus.winter.config;
+            public abstract class AbstractAutowireCapableBeanFactory {
+                public abstract Object resolveDependency(DependencyDescriptor descriptor);
+            }
+            """;
+
+    private static final String DEPENDENCY_DESCRIPTOR = """
+            package com.codeus.winter.config;
+            import java.lang.reflect.ParameterizedType;
+            import java.lang.reflect.Type;
+            public final class DependencyDescriptor {
+                public static DependencyDescriptor of(String name, Type type, String qualifier) { return null; }
+                public static ParameterizedType parameterizedType(Class<?> rawType, Type... arguments) { return null; }
+            }
+            """;
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    @DisplayName("should index components with their scope, primary flag, dependencies and lifecycle methods")
+    void shouldIndexComponents() throws IOException {
+        Properties index = compile("""
+                package com.codeus.winter.annotation;
+                import java.util.List;
+                @Component @Primary @Scope("prototype")
+                class OrderService {
+                    @Autowired private Repository repository;
+                    @Autowired OrderService(Clock clock, List<Repository> repositories) { }
+                    @Autowired void setClock(Clock clock) { }
+                    @PostConstruct void start() { }
+                    @PreDestroy void stop() { }
+                    @Component static class Repository { }
+                }
+                @Configuration class Clock { }
+                class NotAComponent { }
+                """);
+
+        assertEquals("stereotypes:com.codeus.winter.annotation.Component;scope:prototype;primary:true;"
+                        + "dependsOn:com.codeus.winter.annotation.OrderService$Repository,"
+                        + "com.codeus.winter.annotation.Clock,java.util.List;initMethod:start;destroyMethod:stop",
+                index.getProperty("com.codeus.winter.annotation.OrderService"));
+        assertEquals("stereotypes:com.codeus.winter.annotation.Component;primary:false;dependsOn:",
+                index.getProperty("com.codeus.winter.annotation.OrderService$Repository"));
+        assertEquals("stereotypes:com.codeus.winter.annotation.Configuration;primary:false;dependsOn:",
+                index.getProperty("com.codeus.winter.annotation.Clock"));
+        assertFalse(index.containsKey("com.codeus.winter.annotation.NotAComponent"));
+    }
+
+    @Test
+    @DisplayName("should index the lazy flag only for lazy components")
+    void shouldIndexLazyComponents() throws IOException {
+        Properties index = compile("""
+                package com.codeus.winter.annotation;
+                @Component @Lazy
+                class ReportGenerator { }
+                """);
+
+        assertEquals("stereotypes:com.codeus.winter.annotation.Component;primary:false;lazy:true;dependsOn:",
+                index.getProperty("com.codeus.winter.annotation.ReportGenerator"));
+    }
+
+    @Test
+    @DisplayName("should index the event listener flag only for components with listener methods")
+    void shouldIndexEventListenerComponents() throws IOException {
+        Properties index = compile("""
+                package com.codeus.winter.annotation;
+                @Component
+                class AuditLog {
+                    @EventListener(async = true) void onEvent(Object event) { }
+                }
+                """);
+
+        assertEquals("stereotypes:com.codeus.winter.annotation.Component;primary:false;eventListener:true;dependsOn:",
+                index.getProperty("com.codeus.winter.annotation.AuditLog"));
+    }
+
+    @Test
+    @DisplayName("should index every lifecycle method, inherited ones first")
+    void shouldIndexInheritedLifecycleMethods() throws IOException {
+        Properties index = compile("""
+                package com.codeus.winter.annotation;
+                abstract class AbstractService {
+                    @PostConstruct void connect() { }
+                    @PostConstruct void warmUp() { }
+                    @PreDestroy void disconnect() { }
+                }
+                @Component
+                class PaymentService extends AbstractService {
+                    @PostConstruct void start() { }
+                    @Override void warmUp() { }
+                    @PreDestroy void stop() { }
+                }
+                """);
+
+        assertEquals("stereotypes:com.codeus.winter.annotation.Component;primary:false;dependsOn:;"
+                        + "initMethod:connect,start;destroyMethod:disconnect,stop",
+                index.getProperty("com.codeus.winter.annotation.PaymentService"));
+    }
+
+    @Test
+    @DisplayName("should not write an index when there are no components")
+    void shouldNotWriteIndexWithoutComponents() throws IOException {
+        compile("""
+                package com.codeus.winter.annotation;
+                class NotAComponent { }
+                """);
+
+        assertTrue(Files.notExists(outputDirectory.resolve(ComponentIndexProcessor.COMPONENTS_RESOURCE_LOCATION)));
+    }
+
+    @Test
+    @DisplayName("should generate bean instance suppliers when AOT generation is enabled")
+    void shouldGenerateBeanInstanceSuppliers() throws IOException {
+        compile("""
+                package com.codeus.winter.annotation;
+                import java.util.List;
+                @Component
+                class OrderService {
+                    @Autowired Clock clock;
+                    public OrderService(@Qualifier("primaryRepository") Repository repository) { }
+                    @Autowired void setRepositories(List<Repository> repositories) { }
+                    @Component public static class Repository { }
+                }
+                @Component class Clock { public Clock() { } }
+                @Component class PrivateFieldComponent { @Autowired private Clock clock; }
+                """, List.of("-A" + ComponentIndexProcessor.AOT_OPTION + "=true"));
+
+        Path suppliers = outputDirectory.resolve(ComponentIndexProcessor.SUPPLIERS_RESOURCE_LOCATION);
+        assertEquals(List.of(
+                "com.codeus.winter.annotation.Clock__BeanInstanceSupplier",
+                "com.codeus.winter.annotation.OrderService_Repository__BeanInstanceSupplier",
+                "com.codeus.winter.annotation.OrderService__BeanInstanceSupplier"), Files.readAllLines(suppliers));
+        assertTrue(Files.exists(outputDirectory.resolve(
+                "com/codeus/winter/annotation/OrderService__BeanInstanceSupplier.class")));
+        assertTrue(Files.notExists(outputDirectory.resolve(
+                "com/codeus/winter/annotation/PrivateFieldComponent__BeanInstanceSupplier.class")));
+    }
+
+    @Test
+    @DisplayName("should not generate bean instance suppliers by default")
+    void shouldNotGenerateBeanInstanceSuppliersByDefault() throws IOException {
+        compile("""
+                package com.codeus.winter.annotation;
+                @Component class Clock { }
+                """);
+
+        assertTrue(Files.notExists(outputDirectory.resolve(ComponentIndexProcessor.SUPPLIERS_RESOURCE_LOCATION)));
+    }
+
+    private Properties compile(String source) throws IOException {
+        return compile(source, List.of());
+    }
+
+    private Properties compile(String source, List<String> options) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory.toFile()));
+            List<JavaFileObject> sources = List.of(
+                    new SourceFile("com/codeus/winter/annotation/Annotations.java", ANNOTATIONS),
+                    new SourceFile("com/codeus/winter/config/BeanInstanceSupplier.java", BEAN_INSTANCE_SUPPLIER),
+                    new SourceFile("com/codeus/winter/config/AbstractAutowireCapableBeanFactory.java", BEAN_FACTORY),
+                    new SourceFile("com/codeus/winter/config/DependencyDescriptor.java", DEPENDENCY_DESCRIPTOR),
+                    new SourceFile("com/codeus/winter/annotation/Components.java", source));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, sources);
+            task.setProcessors(List.of(new ComponentIndexProcessor()));
+            assertTrue(task.call(), "Compilation should succeed");
+        }
+
+        Properties index = new Properties();
+        Path indexFile = outputDirectory.resolve(ComponentIndexProcessor.COMPONENTS_RESOURCE_LOCATION);
+        if (Files.exists(indexFile)) {
+            try (InputStream inputStream = Files.newInputStream(indexFile)) {
+                index.load(inputStream);
+            }
+        }
+        return index;
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}